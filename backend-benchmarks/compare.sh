@@ -0,0 +1,12 @@
+#!/bin/sh
+# Compare deux runs produits par run.sh (temps par opération et octets alloués par opération).
+# Usage : ./compare.sh <run-de-référence> <run-candidat>   ex. ./compare.sh avant-cache apres-cache
+set -e
+
+cd "$(dirname "$0")"
+BASELINE=${1:?"Usage: ./compare.sh <run-de-référence> <run-candidat>"}
+CANDIDATE=${2:?"Usage: ./compare.sh <run-de-référence> <run-candidat>"}
+
+[ -f target/benchmarks.jar ] || ../backend/mvnw -q package
+java -cp target/benchmarks.jar com.projectmanagementtool.benchmarks.CompareResults \
+    "results/$BASELINE.json" "results/$CANDIDATE.json"
@@ -0,0 +1,15 @@
+#!/bin/sh
+# Construit le backend et les benchmarks puis lance JMH avec le profiler GC.
+# Usage : ./run.sh <nom-du-run> [options JMH...]   ex. ./run.sh avant-cache 'Jwt.*' -f 2
+set -e
+
+cd "$(dirname "$0")"
+NAME=${1:?"Usage: ./run.sh <nom-du-run> [options JMH...]"}
+shift
+
+../backend/mvnw -q -f ../backend/pom.xml install -DskipTests
+../backend/mvnw -q package
+
+mkdir -p results
+java -jar target/benchmarks.jar -prof gc -rf json -rff "results/$NAME.json" "$@"
+echo "Résultats : results/$NAME.json"
@@ -0,0 +1,102 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Compare deux résultats JMH (-rf json) : temps et allocation par opération (-prof gc)
+public final class CompareResults {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <candidate.json>");
+            System.exit(2);
+        }
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> candidate = read(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %9s %12s %12s %9s%n",
+                "benchmark", "baseline", "candidate", "delta", "B/op base", "B/op cand", "delta");
+        for (Map.Entry<String, Result> entry : baseline.entrySet()) {
+            Result before = entry.getValue();
+            Result after = candidate.get(entry.getKey());
+            if (after == null) {
+                System.out.printf("%-70s %14s %14s%n", entry.getKey(), before.formatScore(), "absent");
+                continue;
+            }
+            // Un écart inférieur à la somme des intervalles d'erreur n'est pas significatif
+            boolean significant = Math.abs(after.score - before.score) > before.error + after.error;
+            System.out.printf("%-70s %14s %14s %8s%s %12s %12s %9s%n",
+                    entry.getKey(), before.formatScore(), after.formatScore(),
+                    percent(before.score, after.score), significant ? "*" : " ",
+                    bytes(before.allocated), bytes(after.allocated), percent(before.allocated, after.allocated));
+        }
+        candidate.keySet().stream()
+                .filter(key -> !baseline.containsKey(key))
+                .forEach(key -> System.out.printf("%-70s %14s %14s%n", key, "absent", candidate.get(key).formatScore()));
+        System.out.println("* difference larger than the sum of both 99.9% error margins");
+    }
+
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            JsonNode primary = run.path("primaryMetric");
+            results.put(key(run), new Result(primary.path("score").asDouble(), errorOf(primary),
+                    primary.path("scoreUnit").asText(), allocated(run.path("secondaryMetrics"))));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String name = run.path("benchmark").asText().replaceFirst("^.*\\.benchmarks\\.", "");
+        Map<String, String> params = new LinkedHashMap<>();
+        run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? name : name + params;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // Selon la version de JMH la métrique est préfixée ou non par "·"
+    private static double allocated(JsonNode secondaryMetrics) {
+        Iterator<Map.Entry<String, JsonNode>> metrics = secondaryMetrics.fields();
+        while (metrics.hasNext()) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOC_NORM)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static String percent(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return "-";
+        }
+        return String.format("%+.1f%%", (after - before) * 100 / before);
+    }
+
+    private static String bytes(double value) {
+        return Double.isNaN(value) ? "-" : String.format("%.0f", value);
+    }
+
+    private record Result(double score, double error, String unit, double allocated) {
+        String formatScore() {
+            return String.format("%.3f %s", score, unit);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.projectmanagementtool.backend.dto.TaskDto;
+import com.projectmanagementtool.backend.dto.TaskEventDto;
+import com.projectmanagementtool.backend.mapper.TaskMapper;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.projection.MemberRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import com.projectmanagementtool.backend.security.JwtService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Jeux de données en mémoire, déterministes, de la forme de ceux produits par les repositories
+final class Fixtures {
+    static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    static final long JWT_EXPIRATION_MS = 86_400_000L;
+
+    private static final String[] STATUSES = {"To Do", "In Progress", "Done"};
+
+    private Fixtures() {
+    }
+
+    // Même configuration que les profils applicatifs ; init() est appelé comme par @PostConstruct
+    static JwtService jwtService(boolean cacheEnabled) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", JWT_EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    static ProjectRow projectRow() {
+        return new ProjectRow(1L, "Benchmark project", "Projet de référence pour les benchmarks",
+                "In Progress", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "Admin");
+    }
+
+    static List<MemberRow> memberRows(int count) {
+        List<MemberRow> members = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(new MemberRow((long) i, "user" + i, "user" + i + "@example.com", i == 0 ? "Admin" : "Member"));
+        }
+        return members;
+    }
+
+    static List<TaskRow> taskRows(int count) {
+        List<TaskRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Une tâche sur trois sans assigné, comme dans les données de démonstration
+            boolean assigned = i % 3 != 0;
+            rows.add(new TaskRow((long) i, "Task " + i, "Description of task " + i,
+                    LocalDate.of(2024, 1, 1).plusDays(i % 365), i % 5, STATUSES[i % STATUSES.length],
+                    1L, "Benchmark project", "Projet de référence pour les benchmarks", "In Progress",
+                    assigned ? (long) (i % 20) : null, assigned ? "user" + (i % 20) : null,
+                    assigned ? "user" + (i % 20) + "@example.com" : null, "Admin"));
+        }
+        return rows;
+    }
+
+    static List<Task> tasks(int count) {
+        Status status = new Status();
+        status.setId(2L);
+        status.setName("In Progress");
+
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark project");
+        project.setDescription("Projet de référence pour les benchmarks");
+        project.setStatus(status);
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setName("Task " + i);
+            task.setDescription("Description of task " + i);
+            task.setDueDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            task.setPriority(i % 5);
+            task.setStatus(status);
+            task.setProject(project);
+            if (i % 3 != 0) {
+                User assignee = new User();
+                assignee.setId((long) (i % 20));
+                assignee.setUsername("user" + (i % 20));
+                assignee.setEmail("user" + (i % 20) + "@example.com");
+                task.setAssignee(assignee);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    static List<TaskEventDto> history(long taskId, int events) {
+        List<TaskEventDto> history = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            history.add(TaskEventDto.builder()
+                    .id(taskId * events + i)
+                    .taskId(taskId)
+                    .description("Task priority changed from " + i + " to " + (i + 1))
+                    .date(LocalDateTime.of(2024, 1, 1, 9, 0).plusHours(i))
+                    .build());
+        }
+        return history;
+    }
+
+    static List<TaskDto> taskDtos(int count, int eventsPerTask) {
+        TaskMapper taskMapper = new TaskMapper();
+        List<TaskDto> dtos = new ArrayList<>(count);
+        for (TaskRow row : taskRows(count)) {
+            dtos.add(taskMapper.toDto(row, history(row.getId(), eventsPerTask)));
+        }
+        return dtos;
+    }
+}
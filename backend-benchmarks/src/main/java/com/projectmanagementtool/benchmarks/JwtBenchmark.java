@@ -0,0 +1,82 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
+import com.projectmanagementtool.backend.security.JwtAuthenticationFilter;
+import com.projectmanagementtool.backend.security.JwtService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Coût de l'authentification par requête : émission, vérification (cache chaud ou froid) et filtre complet
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JwtBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private final AuthenticatedUser user = new AuthenticatedUser(42L, "alice", "alice@example.com", null);
+
+    private JwtService cachedJwtService;
+    private JwtService uncachedJwtService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedJwtService = Fixtures.jwtService(true);
+        uncachedJwtService = Fixtures.jwtService(false);
+        token = cachedJwtService.generateToken(user);
+
+        // Le token porte uid/email : le UserDetailsService n'est jamais sollicité
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", cachedJwtService);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cachedJwtService.verify(token);
+    }
+
+    // Vérification HMAC et décodage JSON complets, comme au premier passage d'un token
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncachedJwtService.verify(token);
+    }
+
+    @Benchmark
+    public Authentication filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Contexte vidé à chaque appel, comme en fin de requête, pour que le filtre authentifie toujours
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -0,0 +1,97 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.projectmanagementtool.backend.dto.ProjectDetailsDto;
+import com.projectmanagementtool.backend.dto.TaskDetailsDto;
+import com.projectmanagementtool.backend.dto.TaskDto;
+import com.projectmanagementtool.backend.dto.TaskEventDto;
+import com.projectmanagementtool.backend.mapper.ProjectMapper;
+import com.projectmanagementtool.backend.mapper.TaskMapper;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.repository.projection.MemberRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Mapping d'un projet complet : tâches (projection et entité) puis assemblage du détail
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int tasks;
+
+    @Param({"50"})
+    private int members;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final ProjectMapper projectMapper = new ProjectMapper();
+
+    private ProjectRow project;
+    private List<MemberRow> memberRows;
+    private List<TaskRow> taskRows;
+    private List<Task> taskEntities;
+    private Map<Long, List<TaskEventDto>> histories;
+
+    @Setup
+    public void setUp() {
+        project = Fixtures.projectRow();
+        memberRows = Fixtures.memberRows(members);
+        taskRows = Fixtures.taskRows(tasks);
+        taskEntities = Fixtures.tasks(tasks);
+        histories = new HashMap<>();
+        taskRows.forEach(row -> histories.put(row.getId(), Fixtures.history(row.getId(), 3)));
+    }
+
+    @Benchmark
+    public List<TaskDto> taskToDtoFromRows() {
+        List<TaskDto> dtos = new ArrayList<>(taskRows.size());
+        for (TaskRow row : taskRows) {
+            dtos.add(taskMapper.toDto(row, histories.get(row.getId())));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<TaskDto> taskToDtoFromEntities() {
+        List<TaskDto> dtos = new ArrayList<>(taskEntities.size());
+        for (Task task : taskEntities) {
+            dtos.add(taskMapper.toDto(task, "Admin", histories.get(task.getId())));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<TaskDetailsDto> taskToDetailsDto() {
+        List<TaskDetailsDto> dtos = new ArrayList<>(taskEntities.size());
+        for (Task task : taskEntities) {
+            dtos.add(taskMapper.toDetailsDto(task, "Admin"));
+        }
+        return dtos;
+    }
+
+    // Chemin de ProjectDetailsLoader une fois les lignes chargées
+    @Benchmark
+    public ProjectDetailsDto projectToDetailsDto() {
+        return projectMapper.toDetailsDto(project, memberRows, taskToDtoFromRows());
+    }
+}
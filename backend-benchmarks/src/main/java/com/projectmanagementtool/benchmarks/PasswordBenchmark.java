@@ -0,0 +1,52 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.projectmanagementtool.backend.config.ApplicationConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// Vérification d'un mot de passe au login, avec l'encodeur et le coût réellement configurés
+// (pool de hachage compris : le passage d'un thread à l'autre fait partie du coût mesuré)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        // Le bean ne dépend pas du UserRepository ; sans registre, les timers vont dans un SimpleMeterRegistry.
+        // Propriétés système prises en compte : -jvmArgsAppend -Dsecurity.password.bcrypt-strength=12 pour comparer les coûts
+        passwordEncoder = new ApplicationConfig(null)
+                .passwordEncoder(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class), new StandardEnvironment());
+        hash = passwordEncoder.encode("admin123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("admin123", hash);
+    }
+
+    @Benchmark
+    public boolean mismatches() {
+        return passwordEncoder.matches("wrong-password", hash);
+    }
+}
@@ -0,0 +1,76 @@
+package com.projectmanagementtool.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagementtool.backend.dto.TaskDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Sérialisation des listes de tâches renvoyées par /api/tasks et /api/tasks/project/{id}
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int tasks;
+
+    @Param({"3"})
+    private int eventsPerTask;
+
+    private List<TaskDto> taskDtos;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() {
+        taskDtos = Fixtures.taskDtos(tasks, eventsPerTask);
+        // Même builder que l'auto-configuration Spring Boot (dates ISO, modules JSR-310)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TaskDto.class));
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws IOException {
+        return writer.writeValueAsBytes(taskDtos);
+    }
+
+    // Écriture en flux comme MappingJackson2HttpMessageConverter, sans le tableau final
+    @Benchmark
+    public long toStream() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        writer.writeValue(out, taskDtos);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.projectmanagementtool.backend.config;
+
+import com.projectmanagementtool.backend.monitoring.AccessLogFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+// Journal d'accès échantillonné (voir docs/deployment.md)
+@Configuration
+@ConditionalOnProperty(name = "access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogConfig {
+
+    // Devant QueryBudgetFilter : la durée couvre toute la chaîne et le nombre de requêtes SQL est déjà posé
+    @Bean
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(Environment environment) {
+        double sampleRate = environment.getProperty("access-log.sample-rate", Double.class, 0.1);
+        long slowThresholdMillis = environment.getProperty("access-log.slow-threshold-ms", Long.class, 500L);
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(
+                new AccessLogFilter(sampleRate, slowThresholdMillis));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -1,22 +1,25 @@
 package com.projectmanagementtool.backend.config;
 
 import com.projectmanagementtool.backend.repository.UserRepository;
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
+import com.projectmanagementtool.backend.security.PooledPasswordEncoder;
+import com.projectmanagementtool.backend.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Collections;
-
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
@@ -24,21 +27,13 @@ public class ApplicationConfig {
     private final UserRepository userRepository;
 
     @Bean
-    public UserDetailsService userDetailsService() {
-        return username -> userRepository.findByUsername(username)
-                .map(user -> new User(
-                    user.getUsername(),
-                    user.getPassword(),
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                ))
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-    }
-
-    @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
-        authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        // Le login s'identifie par email : une seule lecture de l'utilisateur avant la vérification BCrypt
+        authProvider.setUserDetailsService(this::loadUserByEmail);
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Hash stocké avec un coût inférieur à security.password.bcrypt-strength : re-haché au login réussi
+        authProvider.setUserDetailsPasswordService(this::updatePassword);
         return authProvider;
     }
 
@@ -47,8 +42,29 @@ public class ApplicationConfig {
         return config.getAuthenticationManager();
     }
 
+    // BCrypt sur un pool borné (security.password.*) ; le timer security.password mesure le hachage seul,
+    // security.password.queue.wait l'attente d'un thread
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        int strength = environment.getProperty("security.password.bcrypt-strength", Integer.class, 10);
+        int threads = environment.getProperty("security.password.threads", Integer.class,
+                Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        int queueCapacity = environment.getProperty("security.password.queue-capacity", Integer.class, 32);
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return new PooledPasswordEncoder(new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), registry),
+                threads, queueCapacity, registry);
+    }
+
+    private UserDetails loadUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .map(AuthenticatedUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    private UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) user;
+        userRepository.updatePassword(authenticatedUser.getId(), newPassword);
+        return new AuthenticatedUser(authenticatedUser.getId(), authenticatedUser.getUsername(),
+                authenticatedUser.getEmail(), newPassword);
     }
 } 
\ No newline at end of file
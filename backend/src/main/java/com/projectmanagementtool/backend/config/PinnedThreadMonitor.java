@@ -0,0 +1,56 @@
+package com.projectmanagementtool.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+// Écoute l'événement JFR jdk.VirtualThreadPinned (Java 21+) : un thread virtuel bloqué dans un
+// bloc synchronized ou un appel natif garde son thread porteur. Sous Java 17 l'événement n'existe
+// pas et le compteur reste à zéro.
+public class PinnedThreadMonitor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(PinnedThreadMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream stream;
+
+    public PinnedThreadMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        Counter pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        Timer pinnedDuration = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Time virtual threads spent pinned to their carrier")
+                .register(meterRegistry);
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> {
+            pinned.increment();
+            pinnedDuration.record(event.getDuration());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+            }
+        });
+        stream.startAsync();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "?";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.isEmpty() ? "?" : frames.get(0).getMethod().getType().getName() + "." + frames.get(0).getMethod().getName();
+    }
+}
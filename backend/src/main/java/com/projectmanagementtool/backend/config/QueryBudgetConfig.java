@@ -0,0 +1,54 @@
+package com.projectmanagementtool.backend.config;
+
+import com.projectmanagementtool.backend.monitoring.QueryBudgetAspect;
+import com.projectmanagementtool.backend.monitoring.QueryBudgetFilter;
+import com.projectmanagementtool.backend.monitoring.QueryCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// Budget de requêtes SQL par requête HTTP et par appel de service (voir docs/testing.md)
+@Configuration
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetConfig {
+
+    // static : le post-processeur doit exister avant la DataSource, sans instancier cette configuration
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof QueryCountingDataSource) {
+                    return bean;
+                }
+                return new QueryCountingDataSource(dataSource);
+            }
+        };
+    }
+
+    // Avant la chaîne Spring Security, pour compter aussi ce que fait l'authentification
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                       Environment environment) {
+        long budget = environment.getProperty("query-budget.per-request", Long.class, 20L);
+        FilterRegistrationBean<QueryBudgetFilter> registration = new FilterRegistrationBean<>(
+                new QueryBudgetFilter(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), budget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public QueryBudgetAspect queryBudgetAspect(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        long budget = environment.getProperty("query-budget.per-method", Long.class, 15L);
+        return new QueryBudgetAspect(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), budget);
+    }
+}
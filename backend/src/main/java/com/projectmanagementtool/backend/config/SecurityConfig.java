@@ -1,6 +1,7 @@
 package com.projectmanagementtool.backend.config;
 
 import com.projectmanagementtool.backend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,7 +33,11 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // Fin d'un flux SSE : le dispatch asynchrone n'a plus le jeton, la requête initiale a déjà été autorisée
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/public/**", "/api/auth/**", "/api/health", "/public/**", "/auth/**").permitAll()
+                // Scrape Prometheus sans jeton ; en production, le restreindre au réseau interne (management.server.port)
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
@@ -0,0 +1,40 @@
+package com.projectmanagementtool.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagementtool.backend.monitoring.ServerTimingAspect;
+import com.projectmanagementtool.backend.monitoring.ServerTimingFilter;
+import com.projectmanagementtool.backend.monitoring.ServerTimingJsonConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+// En-tête Server-Timing (auth, db, mapping, json, total) sur option : expose des détails internes
+// et met chaque réponse JSON en tampon, à réserver au diagnostic et aux tests de charge.
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    // Juste après QueryBudgetFilter : mesure l'authentification et compte les mêmes requêtes SQL
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(Environment environment) {
+        boolean countQueries = environment.getProperty("query-budget.enabled", Boolean.class, true);
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(new ServerTimingFilter(countQueries));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    // Remplace le convertisseur JSON de Spring Boot (même ObjectMapper)
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJsonConverter(objectMapper);
+    }
+}
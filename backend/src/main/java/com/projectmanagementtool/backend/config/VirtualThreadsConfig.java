@@ -0,0 +1,54 @@
+package com.projectmanagementtool.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Profil virtual-threads : l'exécution sur threads virtuels elle-même est portée par
+// spring.threads.virtual.enabled (application-virtual-threads.properties)
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    // static : le post-processeur doit exister avant la DataSource, sans instancier cette configuration
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment,
+                                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int maxConcurrency = environment.getProperty("database.max-concurrency", Integer.class,
+                        environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+                long acquireTimeoutMs = environment.getProperty("database.acquire-timeout-ms", Long.class, 5_000L);
+
+                ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeoutMs);
+                MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+                Gauge.builder("database.permits.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+                        .description("Database connection permits left before callers have to wait")
+                        .register(registry);
+                Gauge.builder("database.permits.waiting", limited, ConcurrencyLimitedDataSource::waitingThreads)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+                return limited;
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public PinnedThreadMonitor pinnedThreadMonitor(ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        long thresholdMs = environment.getProperty("virtual-threads.pinning.threshold-ms", Long.class, 20L);
+        return new PinnedThreadMonitor(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), Duration.ofMillis(thresholdMs));
+    }
+}
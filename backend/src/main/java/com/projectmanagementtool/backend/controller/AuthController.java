@@ -2,8 +2,12 @@ package com.projectmanagementtool.backend.controller;
 
 import com.projectmanagementtool.backend.dto.AuthRequest;
 import com.projectmanagementtool.backend.dto.AuthResponse;
+import com.projectmanagementtool.backend.dto.RefreshTokenRequest;
+import com.projectmanagementtool.backend.exception.AuthenticationOverloadedException;
 import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
 import com.projectmanagementtool.backend.security.JwtService;
+import com.projectmanagementtool.backend.security.RefreshTokenService;
 import com.projectmanagementtool.backend.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +17,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,43 +28,37 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<?> authenticateUser(@Valid @RequestBody AuthRequest request) {
-        log.info("Received login request for email: {}", request.getEmail());
+        log.debug("Received login request for email: {}", request.getEmail());
         
         try {
-            // Find user by email first
-            User user = userService.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + request.getEmail()));
-            
-            // Authenticate using the username and password
+            // Principal chargé par email dans DaoAuthenticationProvider : pas de recherche préalable
             Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(user.getUsername(), request.getPassword())
+                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String jwt = jwtService.generateToken(userDetails);
+            AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+            AuthResponse response = authResponse(principal, refreshTokenService.issue(principal.getId()));
 
-            AuthResponse response = new AuthResponse();
-            response.setToken(jwt);
-            response.setId(user.getId());
-            response.setUsername(user.getUsername());
-            response.setEmail(user.getEmail());
-            response.setExp(jwtService.getExpirationTime(jwt));
-
-            log.info("User with email {} logged in successfully", request.getEmail());
+            log.debug("User with email {} logged in successfully", request.getEmail());
             return ResponseEntity.ok(response);
+        } catch (AuthenticationOverloadedException e) {
+            // 503 + Retry-After via GlobalExceptionHandler, pas un échec de login
+            throw e;
         } catch (Exception e) {
-            log.error("Error during login: {}", e.getMessage(), e);
+            // Identifiants invalides : cas attendu, pas de pile d'appels (le statut figure au journal d'accès)
+            log.warn("Login failed for email {}: {}", request.getEmail(), e.getMessage());
             return ResponseEntity.badRequest().body("Error during login: " + e.getMessage());
         }
     }
 
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody AuthRequest request) {
-        log.info("Received registration request for username: {}", request.getUsername());
+        log.debug("Received registration request for username: {}", request.getUsername());
         
         if (userService.existsByUsername(request.getUsername())) {
             log.warn("Username {} is already taken", request.getUsername());
@@ -81,16 +78,40 @@ public class AuthController {
             userService.save(user);
             log.info("User {} registered successfully", request.getUsername());
             return ResponseEntity.ok("User registered successfully!");
+        } catch (AuthenticationOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error registering user: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body("Error registering user: " + e.getMessage());
         }
     }
 
+    // Échange un refresh token contre un nouvel access token et un nouveau refresh token, sans BCrypt
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        return ResponseEntity.ok(authResponse(rotation.user(), rotation.refreshToken()));
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser() {
+    public ResponseEntity<?> logoutUser(@RequestBody(required = false) RefreshTokenRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
         SecurityContextHolder.clearContext();
-        log.info("User logged out successfully");
+        log.debug("User logged out successfully");
         return ResponseEntity.ok("Logged out successfully!");
     }
-} 
\ No newline at end of file
+
+    private AuthResponse authResponse(AuthenticatedUser principal, String refreshToken) {
+        String jwt = jwtService.generateToken(principal);
+        AuthResponse response = new AuthResponse();
+        response.setToken(jwt);
+        response.setRefreshToken(refreshToken);
+        response.setId(principal.getId());
+        response.setUsername(principal.getUsername());
+        response.setEmail(principal.getEmail());
+        response.setExp(jwtService.getExpirationTime(jwt));
+        return response;
+    }
+}
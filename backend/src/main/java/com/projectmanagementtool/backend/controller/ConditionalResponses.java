@@ -0,0 +1,22 @@
+package com.projectmanagementtool.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+// GET conditionnel : 304 sans construire le corps si l'ETag du client est toujours valide
+final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(body.get());
+    }
+}
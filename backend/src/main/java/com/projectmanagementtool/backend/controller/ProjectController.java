@@ -1,13 +1,19 @@
 package com.projectmanagementtool.backend.controller;
 
+import com.projectmanagementtool.backend.dto.CursorPageDto;
 import com.projectmanagementtool.backend.dto.ProjectDetailsDto;
 import com.projectmanagementtool.backend.dto.ProjectDto;
 import com.projectmanagementtool.backend.dto.ProjectRequestDto;
 import com.projectmanagementtool.backend.service.ProjectService;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -16,20 +22,39 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectController {
     private final ProjectService projectService;
+    private final ProjectVersionTracker projectVersionTracker;
 
     @GetMapping
     public ResponseEntity<List<ProjectDto>> getAllProjects() {
         return ResponseEntity.ok(projectService.getAllProjects());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageDto<ProjectDto>> getProjectsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(projectService.getProjectsPage(cursor, size));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDto> getProject(@PathVariable Long id) {
         return ResponseEntity.ok(projectService.getProject(id));
     }
 
+    // L'ETag est lu avant le corps : une écriture concurrente donne au pire un ETag plus ancien que le corps
     @GetMapping("/{id}/details")
-    public ResponseEntity<ProjectDetailsDto> getProjectDetails(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectDetails(id));
+    public ResponseEntity<ProjectDetailsDto> getProjectDetails(@PathVariable Long id, WebRequest request) {
+        return projectVersionTracker.currentEtag(id)
+                .map(etag -> ConditionalResponses.ifNoneMatch(request, etag, CacheControl.noCache().cachePrivate(),
+                        () -> projectService.getProjectDetails(id)))
+                .orElseGet(() -> ResponseEntity.ok(projectService.getProjectDetails(id)));
+    }
+
+    // Un client qui se reconnecte (Last-Event-ID) reçoit d'abord "resync" : rien n'est rejoué
+    @GetMapping(path = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProjectChanges(@PathVariable Long id,
+                                           @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return projectService.streamProjectChanges(id, lastEventId != null);
     }
 
     @GetMapping("/status/{statusId}")
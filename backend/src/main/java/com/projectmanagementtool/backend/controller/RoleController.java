@@ -4,9 +4,13 @@ import com.projectmanagementtool.backend.dto.RoleDto;
 import com.projectmanagementtool.backend.mapper.RoleMapper;
 import com.projectmanagementtool.backend.service.RoleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,12 +21,16 @@ public class RoleController {
     private final RoleService roleService;
     private final RoleMapper roleMapper;
 
+    @Value("${reference-data.cache-max-age-seconds:86400}")
+    private long cacheMaxAgeSeconds;
+
+    // La liste ne change que via le registre : le client revalide avec If-None-Match et reçoit un 304 sans corps
     @GetMapping
-    public ResponseEntity<List<RoleDto>> getAllRoles() {
-        List<RoleDto> dtos = roleService.findAll().stream()
+    public ResponseEntity<List<RoleDto>> getAllRoles(WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePrivate();
+        return ConditionalResponses.ifNoneMatch(request, roleService.getEtag(), cacheControl, () -> roleService.findAll().stream()
                 .map(roleMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+                .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
@@ -4,9 +4,13 @@ import com.projectmanagementtool.backend.dto.StatusDto;
 import com.projectmanagementtool.backend.mapper.StatusMapper;
 import com.projectmanagementtool.backend.service.StatusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,12 +21,16 @@ public class StatusController {
     private final StatusService statusService;
     private final StatusMapper statusMapper;
 
+    @Value("${reference-data.cache-max-age-seconds:86400}")
+    private long cacheMaxAgeSeconds;
+
+    // La liste ne change que via le registre : le client revalide avec If-None-Match et reçoit un 304 sans corps
     @GetMapping
-    public ResponseEntity<List<StatusDto>> getAllStatuses() {
-        List<StatusDto> dtos = statusService.findAll().stream()
+    public ResponseEntity<List<StatusDto>> getAllStatuses(WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePrivate();
+        return ConditionalResponses.ifNoneMatch(request, statusService.getEtag(), cacheControl, () -> statusService.findAll().stream()
                 .map(statusMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+                .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
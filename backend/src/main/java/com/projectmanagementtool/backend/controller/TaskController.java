@@ -1,12 +1,20 @@
 package com.projectmanagementtool.backend.controller;
 
+import com.projectmanagementtool.backend.dto.BulkItemResultDto;
+import com.projectmanagementtool.backend.dto.BulkTaskMoveDto;
+import com.projectmanagementtool.backend.dto.BulkTaskUpdateDto;
+import com.projectmanagementtool.backend.dto.CursorPageDto;
 import com.projectmanagementtool.backend.dto.TaskDetailsDto;
 import com.projectmanagementtool.backend.dto.TaskDto;
 import com.projectmanagementtool.backend.dto.TaskRequestDto;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
+import com.projectmanagementtool.backend.service.TaskBulkService;
 import com.projectmanagementtool.backend.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +24,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final ProjectVersionTracker projectVersionTracker;
 
     @GetMapping
     public ResponseEntity<List<TaskDto>> getAllTasks() {
@@ -37,8 +47,11 @@ public class TaskController {
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<TaskDto>> getTasksByProject(@PathVariable Long projectId) {
-        return ResponseEntity.ok(taskService.getTasksByProjectId(projectId));
+    public ResponseEntity<List<TaskDto>> getTasksByProject(@PathVariable Long projectId, WebRequest request) {
+        return projectVersionTracker.currentEtag(projectId)
+                .map(etag -> ConditionalResponses.ifNoneMatch(request, etag, CacheControl.noCache().cachePrivate(),
+                        () -> taskService.getTasksByProjectId(projectId)))
+                .orElseGet(() -> ResponseEntity.ok(taskService.getTasksByProjectId(projectId)));
     }
 
     @GetMapping("/assignee/{assigneeId}")
@@ -53,6 +66,34 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTasksByProjectIdAndStatusId(projectId, statusId));
     }
 
+    @GetMapping("/project/{projectId}/page")
+    public ResponseEntity<CursorPageDto<TaskDto>> getTasksPageByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskService.getTasksPage(projectId, null, null, sort, cursor, size));
+    }
+
+    @GetMapping("/assignee/{assigneeId}/page")
+    public ResponseEntity<CursorPageDto<TaskDto>> getTasksPageByAssignee(
+            @PathVariable Long assigneeId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskService.getTasksPage(null, assigneeId, null, sort, cursor, size));
+    }
+
+    @GetMapping("/project/{projectId}/status/{statusId}/page")
+    public ResponseEntity<CursorPageDto<TaskDto>> getTasksPageByProjectAndStatus(
+            @PathVariable Long projectId,
+            @PathVariable Long statusId,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskService.getTasksPage(projectId, null, statusId, sort, cursor, size));
+    }
+
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@RequestBody TaskRequestDto request) {
         return Optional.ofNullable(taskService.createTask(request))
@@ -60,6 +101,21 @@ public class TaskController {
                 .orElse(ResponseEntity.badRequest().build());
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDto>> createTasks(@RequestBody List<TaskRequestDto> requests) {
+        return ResponseEntity.ok(taskBulkService.createTasks(requests));
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<List<BulkItemResultDto>> updateTasks(@RequestBody BulkTaskUpdateDto request) {
+        return ResponseEntity.ok(taskBulkService.updateTasks(request));
+    }
+
+    @PostMapping("/bulk/move")
+    public ResponseEntity<List<BulkItemResultDto>> moveTasks(@RequestBody BulkTaskMoveDto request) {
+        return ResponseEntity.ok(taskBulkService.moveTasks(request));
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @RequestBody TaskRequestDto request) {
         return Optional.ofNullable(taskService.updateTask(id, request))
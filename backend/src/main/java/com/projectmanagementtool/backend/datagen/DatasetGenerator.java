@@ -0,0 +1,335 @@
+package com.projectmanagementtool.backend.datagen;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Jeu de données synthétique à l'échelle de la production, ajouté aux données existantes.
+// Déterministe pour une graine et une date de référence données. Répartitions biaisées :
+// quelques utilisateurs membres de nombreux projets, quelques projets concentrant les tâches,
+// quelques tâches concentrant l'historique, événements récents plus nombreux qu'anciens.
+@Component
+@Profile("generate-data")
+@RequiredArgsConstructor
+public class DatasetGenerator implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String[] STATUSES = {"To Do", "In Progress", "Done"};
+    private static final String[] ROLES = {"Admin", "Member", "Observer"};
+    private static final int MAX_MEMBERS = 50;
+    // Priorités 1 à 5, la plupart des tâches en priorité moyenne
+    private static final double[] PRIORITY_WEIGHTS = {0.10, 0.25, 0.35, 0.20, 0.10};
+    private static final String[] TASK_VERBS = {"Design", "Implement", "Review", "Test", "Document", "Fix", "Deploy", "Refactor"};
+    private static final String[] TASK_SUBJECTS = {"login page", "payment flow", "search", "notifications", "dashboard",
+            "API client", "database schema", "export", "onboarding", "settings"};
+
+    private final DataSource dataSource;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${datagen.users:50000}")
+    private int userCount;
+
+    @Value("${datagen.projects:20000}")
+    private int projectCount;
+
+    @Value("${datagen.tasks:2000000}")
+    private int taskCount;
+
+    @Value("${datagen.events:20000000}")
+    private long eventCount;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    // Vide : date du jour ; à fixer pour reproduire exactement un jeu de données
+    @Value("${datagen.reference-date:}")
+    private String referenceDate;
+
+    @Value("${datagen.skew:0.8}")
+    private double skew;
+
+    @Value("${datagen.rows-per-statement:1000}")
+    private int rowsPerStatement;
+
+    @Value("${datagen.history-days:730}")
+    private int historyDays;
+
+    @Value("${datagen.password:password123}")
+    private String password;
+
+    @Override
+    public void run(String... args) throws SQLException {
+        Random random = new Random(seed);
+        LocalDate today = referenceDate.isBlank() ? LocalDate.now() : LocalDate.parse(referenceDate);
+        logger.info("Generating {} users, {} projects, {} tasks, {} task events (seed {}, reference date {})",
+                userCount, projectCount, taskCount, eventCount, seed, today);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            Map<String, Long> statuses = ensureReferenceData(connection, "statuses", STATUSES);
+            Map<String, Long> roles = ensureReferenceData(connection, "roles", ROLES);
+
+            long firstUserId = nextId(connection, "users");
+            insertUsers(connection, firstUserId);
+
+            long firstProjectId = nextId(connection, "projects");
+            ProjectShape projects = insertProjects(connection, random, today, firstProjectId, statuses);
+
+            long[][] members = insertMembers(connection, random, firstUserId, firstProjectId, roles);
+
+            long firstTaskId = nextId(connection, "tasks");
+            insertTasks(connection, random, today, firstTaskId, firstProjectId, projects, members, statuses);
+
+            insertEvents(connection, random, today, firstTaskId);
+
+            resetIdentity(connection, "users");
+            for (String table : List.of("projects", "project_members", "tasks", "task_events")) {
+                resetIdSequence(connection, table);
+            }
+            connection.commit();
+        }
+        logger.info("Dataset generated");
+    }
+
+    private void insertUsers(Connection connection, long firstId) throws SQLException {
+        // Un seul hash BCrypt pour tous : le coût de l'encodeur rendrait sinon la génération interminable
+        String hash = passwordEncoder.encode(password);
+        try (MultiRowInserter users = new MultiRowInserter(connection, "users",
+                List.of("id", "username", "email", "password"), rowsPerStatement, userCount)) {
+            for (int i = 0; i < userCount; i++) {
+                long id = firstId + i;
+                users.add(id, "gen_user" + id, "gen_user" + id + "@example.com", hash);
+            }
+        }
+    }
+
+    private ProjectShape insertProjects(Connection connection, Random random, LocalDate today, long firstId,
+                                        Map<String, Long> statuses) throws SQLException {
+        ProjectShape shape = new ProjectShape(new LocalDate[projectCount], new int[projectCount]);
+        try (MultiRowInserter projects = new MultiRowInserter(connection, "projects",
+                List.of("id", "name", "description", "start_date", "end_date", "status_id", "version"),
+                rowsPerStatement, projectCount)) {
+            for (int i = 0; i < projectCount; i++) {
+                LocalDate start = today.minusDays(random.nextInt(3 * 365));
+                // Durée de 1 à 12 mois, un projet sur cinq sans date de fin
+                int duration = random.nextInt(5) == 0 ? -1 : 30 + random.nextInt(335);
+                LocalDate end = duration < 0 ? null : start.plusDays(duration);
+                String status = end != null && end.isBefore(today) ? (random.nextInt(10) < 8 ? "Done" : "In Progress")
+                        : (random.nextInt(3) == 0 ? "To Do" : "In Progress");
+                shape.starts()[i] = start;
+                shape.durations()[i] = duration < 0 ? 365 : duration;
+
+                projects.add(firstId + i, "Project " + (firstId + i),
+                        random.nextInt(4) == 0 ? null : "Generated project " + (firstId + i),
+                        Date.valueOf(start), end != null ? Date.valueOf(end) : null, statuses.get(status), 0L);
+            }
+        }
+        return shape;
+    }
+
+    // Taille des équipes log-normale (médiane ~4, traîne jusqu'à MAX_MEMBERS), membres tirés selon
+    // Zipf : un petit nombre d'utilisateurs se retrouve dans beaucoup de projets
+    private long[][] insertMembers(Connection connection, Random random, long firstUserId, long firstProjectId,
+                                   Map<String, Long> roles) throws SQLException {
+        ZipfSampler userSampler = new ZipfSampler(userCount, skew, random);
+        int maxMembers = Math.min(MAX_MEMBERS, userCount);
+        long[][] members = new long[projectCount][];
+        int[] sizes = new int[projectCount];
+        long expected = 0;
+        for (int p = 0; p < projectCount; p++) {
+            sizes[p] = (int) Math.max(1, Math.min(maxMembers, Math.round(Math.exp(1.4 + 0.8 * random.nextGaussian()))));
+            expected += sizes[p];
+        }
+
+        long nextId = nextId(connection, "project_members");
+        try (MultiRowInserter inserter = new MultiRowInserter(connection, "project_members",
+                List.of("id", "project_id", "user_id", "role_id"), rowsPerStatement, expected)) {
+            for (int p = 0; p < projectCount; p++) {
+                Set<Long> team = new LinkedHashSet<>();
+                while (team.size() < sizes[p]) {
+                    team.add(firstUserId + userSampler.next());
+                }
+                members[p] = team.stream().mapToLong(Long::longValue).toArray();
+                for (int m = 0; m < members[p].length; m++) {
+                    String role = m == 0 ? "Admin" : (random.nextInt(5) == 0 ? "Observer" : "Member");
+                    inserter.add(nextId++, firstProjectId + p, members[p][m], roles.get(role));
+                }
+            }
+        }
+        return members;
+    }
+
+    private void insertTasks(Connection connection, Random random, LocalDate today, long firstId, long firstProjectId,
+                             ProjectShape projects, long[][] members, Map<String, Long> statuses) throws SQLException {
+        ZipfSampler projectSampler = new ZipfSampler(projectCount, skew, random);
+        try (MultiRowInserter tasks = new MultiRowInserter(connection, "tasks",
+                List.of("id", "project_id", "name", "description", "due_date", "priority", "assignee_id", "status_id", "version"),
+                rowsPerStatement, taskCount)) {
+            for (int i = 0; i < taskCount; i++) {
+                int project = projectSampler.next();
+                LocalDate due = random.nextInt(7) == 0 ? null
+                        : projects.starts()[project].plusDays(random.nextInt(projects.durations()[project] + 1));
+                // Les tâches échues sont le plus souvent terminées, les autres plutôt à faire
+                int roll = random.nextInt(100);
+                String status = due != null && due.isBefore(today)
+                        ? (roll < 75 ? "Done" : roll < 90 ? "In Progress" : "To Do")
+                        : (roll < 50 ? "To Do" : roll < 85 ? "In Progress" : "Done");
+                long[] team = members[project];
+                Long assignee = random.nextInt(10) < 7 ? team[random.nextInt(team.length)] : null;
+
+                tasks.add(firstId + i, firstProjectId + project,
+                        TASK_VERBS[random.nextInt(TASK_VERBS.length)] + " " + TASK_SUBJECTS[random.nextInt(TASK_SUBJECTS.length)],
+                        random.nextInt(3) == 0 ? null : "Generated task " + (firstId + i),
+                        due != null ? Date.valueOf(due) : null, priority(random), assignee, statuses.get(status), 0L);
+            }
+        }
+    }
+
+    private void insertEvents(Connection connection, Random random, LocalDate today, long firstTaskId) throws SQLException {
+        if (taskCount == 0) {
+            return;
+        }
+        ZipfSampler taskSampler = new ZipfSampler(taskCount, skew, random);
+        long nextId = nextId(connection, "task_events");
+        try (MultiRowInserter events = new MultiRowInserter(connection, "task_events",
+                List.of("id", "task_id", "description", "date"), rowsPerStatement, eventCount)) {
+            for (long i = 0; i < eventCount; i++) {
+                events.add(nextId++, firstTaskId + taskSampler.next(), eventDescription(random),
+                        Timestamp.valueOf(eventDate(random, today)));
+            }
+        }
+    }
+
+    // Densité croissante vers la date de référence, heures ouvrées, week-ends rares
+    private LocalDateTime eventDate(Random random, LocalDate today) {
+        double u = random.nextDouble();
+        LocalDate day = today.minusDays((long) (historyDays * u * u));
+        if ((day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) && random.nextInt(10) < 8) {
+            day = day.minusDays(day.getDayOfWeek() == DayOfWeek.SATURDAY ? 1 : 2);
+        }
+        int hour = (int) Math.max(0, Math.min(23, Math.round(13 + 2.5 * random.nextGaussian())));
+        return day.atTime(hour, random.nextInt(60), random.nextInt(60));
+    }
+
+    private static String eventDescription(Random random) {
+        int roll = random.nextInt(10);
+        if (roll < 4) {
+            return "Status changed to " + STATUSES[random.nextInt(STATUSES.length)];
+        }
+        if (roll < 7) {
+            int from = 1 + random.nextInt(5);
+            return "Task priority changed from " + from + " to " + (1 + random.nextInt(5));
+        }
+        return roll < 9 ? "Task description updated" : "Task created";
+    }
+
+    private static int priority(Random random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < PRIORITY_WEIGHTS.length; i++) {
+            roll -= PRIORITY_WEIGHTS[i];
+            if (roll < 0) {
+                return i + 1;
+            }
+        }
+        return PRIORITY_WEIGHTS.length;
+    }
+
+    // Schéma Flyway (V3) ou schéma Hibernate sur H2 : les valeurs absentes sont créées
+    private Map<String, Long> ensureReferenceData(Connection connection, String table, String[] names) throws SQLException {
+        Map<String, Long> ids = readIdsByName(connection, table);
+        for (String name : names) {
+            if (!ids.containsKey(name)) {
+                try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (name) VALUES (?)")) {
+                    insert.setString(1, name);
+                    insert.executeUpdate();
+                }
+            }
+        }
+        connection.commit();
+        return readIdsByName(connection, table);
+    }
+
+    private static Map<String, Long> readIdsByName(Connection connection, String table) throws SQLException {
+        Map<String, Long> ids = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, name FROM " + table)) {
+            while (rows.next()) {
+                ids.put(rows.getString("name"), rows.getLong("id"));
+            }
+        }
+        return ids;
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    // MySQL recale AUTO_INCREMENT après des ids explicites, pas H2
+    private static void resetIdentity(Connection connection, String table) throws SQLException {
+        if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return;
+        }
+        long next = nextId(connection, table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    // Même règle que V6__add_id_sequences.sql : MAX(id) + 51 place le prochain bloc après les lignes générées
+    private static void resetIdSequence(Connection connection, String sequence) throws SQLException {
+        long nextVal = nextId(connection, sequence) + 50;
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?")) {
+            update.setLong(1, nextVal);
+            update.setString(2, sequence);
+            update.setLong(3, nextVal);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement exists = connection.prepareStatement("SELECT 1 FROM id_sequences WHERE sequence_name = ?")) {
+            exists.setString(1, sequence);
+            try (ResultSet rows = exists.executeQuery()) {
+                if (rows.next()) {
+                    return;
+                }
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)")) {
+            insert.setString(1, sequence);
+            insert.setLong(2, nextVal);
+            insert.executeUpdate();
+        }
+    }
+
+    private record ProjectShape(LocalDate[] starts, int[] durations) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.projectmanagementtool.backend.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// INSERT multi-lignes (VALUES (...), (...), ...) de rowsPerStatement lignes, un commit par
+// statement ; le dernier lot incomplet est envoyé par un statement à sa taille à la fermeture.
+final class MultiRowInserter implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MultiRowInserter.class);
+
+    private final Connection connection;
+    private final String table;
+    private final String columns;
+    private final int columnCount;
+    private final int rowsPerStatement;
+    private final long expectedRows;
+    private final long progressEvery;
+    private final List<Object> pending = new ArrayList<>();
+    private PreparedStatement fullStatement;
+    private long written;
+    private long nextProgress;
+    private final long startNanos = System.nanoTime();
+
+    MultiRowInserter(Connection connection, String table, List<String> columns, int rowsPerStatement, long expectedRows) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = String.join(", ", columns);
+        this.columnCount = columns.size();
+        this.rowsPerStatement = rowsPerStatement;
+        this.expectedRows = expectedRows;
+        // Une ligne de log tous les 5 % environ
+        this.progressEvery = Math.max(rowsPerStatement, expectedRows / 20);
+        this.nextProgress = progressEvery;
+    }
+
+    void add(Object... values) throws SQLException {
+        Collections.addAll(pending, values);
+        if (pending.size() == rowsPerStatement * columnCount) {
+            if (fullStatement == null) {
+                fullStatement = connection.prepareStatement(sql(rowsPerStatement));
+            }
+            execute(fullStatement);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!pending.isEmpty()) {
+                try (PreparedStatement last = connection.prepareStatement(sql(pending.size() / columnCount))) {
+                    execute(last);
+                }
+            }
+        } finally {
+            if (fullStatement != null) {
+                fullStatement.close();
+            }
+        }
+        logger.info("{}: {} rows in {} s", table, written, (System.nanoTime() - startNanos) / 1_000_000_000);
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < pending.size(); i++) {
+            statement.setObject(i + 1, pending.get(i));
+        }
+        statement.executeUpdate();
+        connection.commit();
+        written += pending.size() / columnCount;
+        pending.clear();
+
+        if (written >= nextProgress) {
+            double seconds = Math.max(1e-3, (System.nanoTime() - startNanos) / 1e9);
+            logger.info("{}: {}/{} ({}%), {} rows/s", table, written, expectedRows,
+                    written * 100 / Math.max(1, expectedRows), Math.round(written / seconds));
+            nextProgress += progressEvery;
+        }
+    }
+
+    private String sql(int rows) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return "INSERT INTO " + table + " (" + columns + ") VALUES " + String.join(", ", Collections.nCopies(rows, row));
+    }
+}
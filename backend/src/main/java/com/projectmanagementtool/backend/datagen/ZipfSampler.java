@@ -0,0 +1,41 @@
+package com.projectmanagementtool.backend.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Tirage de rang selon une loi de Zipf (poids 1 / rang^exposant) : quelques éléments très
+// sollicités, une longue traîne. Les rangs sont permutés pour que les éléments « chauds »
+// ne soient pas simplement les premiers ids.
+final class ZipfSampler {
+    private final double[] cumulative;
+    private final int[] rankToIndex;
+    private final Random random;
+
+    ZipfSampler(int size, double exponent, Random random) {
+        this.random = random;
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+
+        rankToIndex = new int[size];
+        for (int i = 0; i < size; i++) {
+            rankToIndex[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = rankToIndex[i];
+            rankToIndex[i] = rankToIndex[j];
+            rankToIndex[j] = swap;
+        }
+    }
+
+    // Index dans [0, size)
+    int next() {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int rank = Arrays.binarySearch(cumulative, target);
+        return rankToIndex[rank >= 0 ? rank : Math.min(-rank - 1, cumulative.length - 1)];
+    }
+}
@@ -11,6 +11,7 @@ import lombok.AllArgsConstructor;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AuthResponse {
     private String token;
+    private String refreshToken;
     private Long id;
     private String username;
     private String email;
@@ -0,0 +1,26 @@
+package com.projectmanagementtool.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Résultat d'un élément d'une requête bulk, dans l'ordre de la requête
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResultDto {
+    private int index;
+    private Long taskId;
+    private boolean success;
+    private String error;
+
+    public static BulkItemResultDto ok(int index, Long taskId) {
+        return new BulkItemResultDto(index, taskId, true, null);
+    }
+
+    public static BulkItemResultDto failed(int index, Long taskId, String error) {
+        return new BulkItemResultDto(index, taskId, false, error);
+    }
+}
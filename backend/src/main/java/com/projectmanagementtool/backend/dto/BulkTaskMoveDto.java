@@ -0,0 +1,11 @@
+package com.projectmanagementtool.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTaskMoveDto {
+    private List<Long> taskIds;
+    private Long targetProjectId;
+}
@@ -0,0 +1,16 @@
+package com.projectmanagementtool.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Même modification appliquée à toutes les tâches listées ; un champ null n'est pas modifié
+@Data
+public class BulkTaskUpdateDto {
+    private List<Long> taskIds;
+    private Long statusId;
+    private Integer priority;
+    private Long assigneeId;
+    private LocalDate dueDate;
+}
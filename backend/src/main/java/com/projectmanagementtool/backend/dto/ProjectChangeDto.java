@@ -0,0 +1,17 @@
+package com.projectmanagementtool.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Notification poussée sur le flux SSE d'un projet : le client recharge l'élément concerné
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectChangeDto {
+    private Long projectId;
+    private String type;
+    private Long entityId;
+}
@@ -3,6 +3,7 @@ package com.projectmanagementtool.backend.dto;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 @Data
 public class ProjectDto {
@@ -13,6 +14,9 @@ public class ProjectDto {
     private LocalDate startDate;
     private LocalDate endDate;
     private String myRole;
+    private Map<String, Long> taskCountsByStatus;
+    private Long overdueTaskCount;
+    private Long taskCount;
     
     private ProjectDto(ProjectDtoBuilder builder) {
         this.id = builder.id;
@@ -22,6 +26,9 @@ public class ProjectDto {
         this.startDate = builder.startDate;
         this.endDate = builder.endDate;
         this.myRole = builder.myRole;
+        this.taskCountsByStatus = builder.taskCountsByStatus;
+        this.overdueTaskCount = builder.overdueTaskCount;
+        this.taskCount = builder.taskCount;
     }
     
     public ProjectDto() {
@@ -40,6 +47,9 @@ public class ProjectDto {
         private LocalDate startDate;
         private LocalDate endDate;
         private String myRole;
+        private Map<String, Long> taskCountsByStatus;
+        private Long overdueTaskCount;
+        private Long taskCount;
         
         public ProjectDtoBuilder id(Long id) {
             this.id = id;
@@ -76,6 +86,21 @@ public class ProjectDto {
             return this;
         }
         
+        public ProjectDtoBuilder taskCountsByStatus(Map<String, Long> taskCountsByStatus) {
+            this.taskCountsByStatus = taskCountsByStatus;
+            return this;
+        }
+        
+        public ProjectDtoBuilder overdueTaskCount(Long overdueTaskCount) {
+            this.overdueTaskCount = overdueTaskCount;
+            return this;
+        }
+        
+        public ProjectDtoBuilder taskCount(Long taskCount) {
+            this.taskCount = taskCount;
+            return this;
+        }
+        
         public ProjectDto build() {
             return new ProjectDto(this);
         }
@@ -5,20 +5,18 @@ import com.projectmanagementtool.backend.dto.ProjectDto;
 import com.projectmanagementtool.backend.dto.ProjectMemberDto;
 import com.projectmanagementtool.backend.dto.TaskDto;
 import com.projectmanagementtool.backend.model.Project;
-import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.repository.projection.MemberRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.TaskCountRow;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 public class ProjectMapper {
-    private final TaskMapper taskMapper;
-
-    public ProjectMapper(TaskMapper taskMapper) {
-        this.taskMapper = taskMapper;
-    }
-
     public ProjectDto toDto(Project project, String myRole) {
         if (project == null) return null;
         
@@ -33,15 +31,46 @@ public class ProjectMapper {
                 .build();
     }
 
-    public ProjectDetailsDto toDetailsDto(Project project, String myRole) {
-        if (project == null) return null;
+    public ProjectDto toDto(ProjectRow row) {
+        if (row == null) return null;
 
-        List<ProjectMemberDto> memberDtos = project.getMembers().stream()
-                .map(this::toMemberDto)
-                .collect(Collectors.toList());
+        return ProjectDto.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .description(row.getDescription())
+                .status(row.getStatusName())
+                .startDate(row.getStartDate())
+                .endDate(row.getEndDate())
+                .myRole(row.getMyRole())
+                .build();
+    }
 
-        List<TaskDto> taskDtos = project.getTasks().stream()
-                .map(task -> taskMapper.toDto(task, myRole))
+    // Les compteurs viennent de l'agrégat GROUP BY ; un projet sans tâche n'a aucune ligne
+    public ProjectDto toDto(ProjectRow row, List<TaskCountRow> taskCounts) {
+        ProjectDto dto = toDto(row);
+        if (dto == null) return null;
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long overdue = 0;
+        long total = 0;
+        for (TaskCountRow count : taskCounts) {
+            byStatus.put(count.getStatusName(), count.getTaskCount());
+            overdue += count.getOverdueCount();
+            total += count.getTaskCount();
+        }
+
+        dto.setTaskCountsByStatus(byStatus);
+        dto.setOverdueTaskCount(overdue);
+        dto.setTaskCount(total);
+        return dto;
+    }
+
+    // Assemble le détail à partir de lignes déjà chargées ; chaque objet n'est mappé qu'une fois
+    public ProjectDetailsDto toDetailsDto(ProjectRow project, List<MemberRow> members, List<TaskDto> tasks) {
+        if (project == null) return null;
+
+        List<ProjectMemberDto> memberDtos = members.stream()
+                .map(member -> toMemberDto(member, project.getName()))
                 .collect(Collectors.toList());
 
         return ProjectDetailsDto.builder()
@@ -50,22 +79,22 @@ public class ProjectMapper {
                 .description(project.getDescription())
                 .startDate(project.getStartDate())
                 .endDate(project.getEndDate())
-                .status(project.getStatus() != null ? project.getStatus().getName() : null)
-                .myRole(myRole)
+                .status(project.getStatusName())
+                .myRole(project.getMyRole())
                 .projectMembers(memberDtos)
-                .tasks(taskDtos)
+                .tasks(tasks)
                 .build();
     }
 
-    private ProjectMemberDto toMemberDto(ProjectMember member) {
+    private ProjectMemberDto toMemberDto(MemberRow member, String projectName) {
         if (member == null) return null;
 
         return ProjectMemberDto.builder()
                 .id(member.getId())
-                .project(member.getProject().getName())
-                .username(member.getUser().getUsername())
-                .email(member.getUser().getEmail())
-                .role(member.getRole().getName())
+                .project(projectName)
+                .username(member.getUsername())
+                .email(member.getEmail())
+                .role(member.getRoleName())
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -7,13 +7,12 @@ import com.projectmanagementtool.backend.dto.TaskEventDto;
 import com.projectmanagementtool.backend.dto.ProjectMemberDto;
 import com.projectmanagementtool.backend.dto.ProjectDto;
 import com.projectmanagementtool.backend.model.Task;
-import com.projectmanagementtool.backend.model.TaskEvent;
 import com.projectmanagementtool.backend.model.User;
 import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 public class TaskMapper {
@@ -29,7 +28,8 @@ public class TaskMapper {
         return task;
     }
 
-    public TaskDto toDto(Task task, String myRole) {
+    // Historique fourni par l'appelant (ex. chargé en lot via TaskEventService.getTaskEventsByTaskIds)
+    public TaskDto toDto(Task task, String myRole, List<TaskEventDto> taskHistory) {
         if (task == null) return null;
 
         TaskDto.TaskDtoBuilder builder = TaskDto.builder()
@@ -47,7 +47,7 @@ public class TaskMapper {
                         .myRole(myRole)
                         .build())
                 .myRole(myRole)
-                .taskHistory(task.getEvents() != null ? toEventDtos(task.getEvents()) : null);
+                .taskHistory(taskHistory);
 
         // Set assignee if exists
         if (task.getAssignee() != null) {
@@ -63,23 +63,37 @@ public class TaskMapper {
         return builder.build();
     }
 
-    private List<TaskEventDto> toEventDtos(List<TaskEvent> events) {
-        if (events == null) return null;
+    // Variante projection : aucune entité ni proxy lazy n'est touché
+    public TaskDto toDto(TaskRow row, List<TaskEventDto> taskHistory) {
+        if (row == null) return null;
 
-        return events.stream()
-                .map(this::toEventDto)
-                .collect(Collectors.toList());
-    }
+        TaskDto.TaskDtoBuilder builder = TaskDto.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .description(row.getDescription())
+                .dueDate(row.getDueDate())
+                .priority(row.getPriority())
+                .status(row.getStatusName())
+                .project(ProjectDto.builder()
+                        .id(row.getProjectId())
+                        .name(row.getProjectName())
+                        .description(row.getProjectDescription())
+                        .status(row.getProjectStatusName())
+                        .myRole(row.getMyRole())
+                        .build())
+                .myRole(row.getMyRole())
+                .taskHistory(taskHistory);
 
-    private TaskEventDto toEventDto(TaskEvent event) {
-        if (event == null) return null;
+        if (row.getAssigneeId() != null) {
+            builder.assignee(ProjectMemberDto.builder()
+                    .id(row.getAssigneeId())
+                    .username(row.getAssigneeUsername())
+                    .email(row.getAssigneeEmail())
+                    .role("Member") // Default role for task assignee
+                    .build());
+        }
 
-        return TaskEventDto.builder()
-                .id(event.getId())
-                .taskId(event.getTask().getId())
-                .description(event.getDescription())
-                .date(event.getDate())
-                .build();
+        return builder.build();
     }
 
     public TaskDetailsDto toDetailsDto(Task task, String myRole) {
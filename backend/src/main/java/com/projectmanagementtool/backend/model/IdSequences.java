@@ -0,0 +1,14 @@
+package com.projectmanagementtool.backend.model;
+
+// Table des séquences partagée par les générateurs d'id (voir V6__add_id_sequences.sql).
+// Chaque lecture réserve ALLOCATION_SIZE ids : les INSERT d'un même flush n'attendent plus
+// l'id généré par la base et peuvent être envoyés en batch JDBC.
+public final class IdSequences {
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
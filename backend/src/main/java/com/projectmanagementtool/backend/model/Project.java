@@ -14,7 +14,10 @@ import java.util.List;
 @Table(name = "projects")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "projects_id")
+    @TableGenerator(name = "projects_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "projects",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Project name is required")
@@ -32,6 +35,11 @@ public class Project {
     @JoinColumn(name = "status_id", nullable = false)
     private Status status;
 
+    // Version agrégée du projet (tâches, historique, membres) : jamais écrite par Hibernate après
+    // l'insertion, uniquement incrémentée en base par ProjectVersionTracker
+    @Column(nullable = false, updatable = false)
+    private long version;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProjectMember> members = new ArrayList<>();
 
@@ -63,6 +71,10 @@ public class Project {
         return status;
     }
     
+    public long getVersion() {
+        return version;
+    }
+    
     public List<ProjectMember> getMembers() {
         return members;
     }
@@ -96,6 +108,10 @@ public class Project {
         this.status = status;
     }
     
+    public void setVersion(long version) {
+        this.version = version;
+    }
+    
     public void setMembers(List<ProjectMember> members) {
         this.members = members;
     }
@@ -11,7 +11,10 @@ import lombok.ToString;
 })
 public class ProjectMember {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_members_id")
+    @TableGenerator(name = "project_members_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "project_members",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ToString.Exclude
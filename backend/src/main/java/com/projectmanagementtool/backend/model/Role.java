@@ -1,10 +1,12 @@
 package com.projectmanagementtool.backend.model;
 
+import com.projectmanagementtool.backend.service.ReferenceDataChangeListener;
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Data
 @Entity
+@EntityListeners(ReferenceDataChangeListener.class)
 @Table(name = "roles")
 public class Role {
     @Id
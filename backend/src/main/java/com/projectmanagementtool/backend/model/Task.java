@@ -15,7 +15,10 @@ import java.util.List;
 @Table(name = "tasks")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tasks_id")
+    @TableGenerator(name = "tasks_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "tasks",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ToString.Exclude
@@ -44,6 +47,11 @@ public class Task {
     @JoinColumn(name = "status_id", nullable = false)
     private Status status;
 
+    // Verrou optimiste ; les mises à jour en masse de TaskRepository l'incrémentent aussi
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ToString.Exclude
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TaskEvent> events = new ArrayList<>();
@@ -84,6 +92,10 @@ public class Task {
     public List<TaskEvent> getEvents() {
         return events;
     }
+
+    public Long getVersion() {
+        return version;
+    }
     
     // Setters
     public void setId(Long id) {
@@ -121,4 +133,8 @@ public class Task {
     public void setEvents(List<TaskEvent> events) {
         this.events = events;
     }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 } 
\ No newline at end of file
@@ -11,7 +11,10 @@ import java.time.LocalDateTime;
 @Table(name = "task_events")
 public class TaskEvent {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_events_id")
+    @TableGenerator(name = "task_events_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "task_events",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ToString.Exclude
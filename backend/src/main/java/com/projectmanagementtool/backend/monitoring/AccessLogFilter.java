@@ -0,0 +1,81 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Une ligne clé=valeur par requête, écrite par l'appender asynchrone ASYNC_ACCESS (logback-spring.xml).
+// Erreurs (4xx/5xx) et requêtes lentes toujours journalisées, succès échantillonnés : sample donne le
+// taux appliqué pour pouvoir re-pondérer les comptages.
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogFilter.class);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public AccessLogFilter(double sampleRate, long slowThresholdMillis) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        if (!logger.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            boolean always = status >= 400 || elapsed >= slowThresholdNanos;
+            if (always || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                log(request, status, elapsed, always ? 1.0 : sampleRate, failure);
+            }
+        }
+    }
+
+    private static void log(HttpServletRequest request, int status, long elapsedNanos, double sample, Throwable failure) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object queries = request.getAttribute(QueryBudgetFilter.QUERY_COUNT_ATTRIBUTE);
+
+        StringBuilder line = new StringBuilder(160)
+                .append("method=").append(request.getMethod())
+                .append(" route=").append(route != null ? route : "UNKNOWN")
+                .append(" path=").append(request.getRequestURI())
+                .append(" status=").append(status)
+                .append(" duration_ms=").append(String.format(Locale.ROOT, "%.2f", elapsedNanos / 1_000_000.0));
+        if (queries != null) {
+            line.append(" queries=").append(queries);
+        }
+        if (request.isAsyncStarted()) {
+            line.append(" async=true");
+        }
+        if (failure != null) {
+            line.append(" error=").append(failure.getClass().getName());
+        }
+        line.append(" sample=").append(sample);
+
+        logger.info(line.toString());
+    }
+}
@@ -0,0 +1,57 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// Statements SQL par appel de service. Seul l'appel le plus externe est mesuré (il inclut ceux qu'il
+// délègue à d'autres services), et l'aspect entoure @Transactional pour compter aussi le flush du commit.
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetAspect {
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetAspect.class);
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final MeterRegistry meterRegistry;
+    private final long budget;
+
+    public QueryBudgetAspect(MeterRegistry meterRegistry, long budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Around("within(com.projectmanagementtool.backend.service..*) && execution(public * *(..))")
+    public Object countQueries(ProceedingJoinPoint joinPoint) throws Throwable {
+        int[] depth = DEPTH.get();
+        if (depth[0] > 0) {
+            return joinPoint.proceed();
+        }
+
+        long start = QueryCounter.current();
+        depth[0]++;
+        try {
+            return joinPoint.proceed();
+        } finally {
+            depth[0]--;
+            long queries = QueryCounter.current() - start;
+            String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+            String method = joinPoint.getSignature().getName();
+            DistributionSummary.builder("service.method.queries")
+                    .description("SQL statements executed per outermost service call")
+                    .tag("class", type)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .record(queries);
+
+            if (queries > budget) {
+                logger.warn("{}.{} executed {} SQL statements (budget {})", type, method, queries, budget);
+            }
+        }
+    }
+}
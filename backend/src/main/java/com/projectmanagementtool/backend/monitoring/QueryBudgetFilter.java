@@ -0,0 +1,57 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Statements SQL exécutés par une requête HTTP, filtre de sécurité compris ; au-delà du budget,
+// un WARN avec le gabarit d'URL (et non l'URL brute) pour regrouper les occurrences.
+public class QueryBudgetFilter extends OncePerRequestFilter {
+    public static final String QUERY_COUNT_ATTRIBUTE = QueryBudgetFilter.class.getName() + ".queryCount";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long budget;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry, long budget) {
+        this.meterRegistry = meterRegistry;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = QueryCounter.current();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long queries = QueryCounter.current() - start;
+            request.setAttribute(QUERY_COUNT_ATTRIBUTE, queries);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(queries);
+
+            if (queries > budget) {
+                logger.warn("{} {} executed {} SQL statements (budget {})", request.getMethod(), uri, queries, budget);
+            }
+        }
+    }
+}
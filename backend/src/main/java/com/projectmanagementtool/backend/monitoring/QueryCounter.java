@@ -0,0 +1,18 @@
+package com.projectmanagementtool.backend.monitoring;
+
+// Nombre de statements JDBC exécutés par le thread courant depuis son démarrage (jamais remis à zéro) :
+// une portée mesure la différence entre son début et sa fin, ce qui rend les portées imbriquées triviales.
+public final class QueryCounter {
+    private static final ThreadLocal<long[]> EXECUTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private QueryCounter() {
+    }
+
+    public static long current() {
+        return EXECUTED.get()[0];
+    }
+
+    static void increment() {
+        EXECUTED.get()[0]++;
+    }
+}
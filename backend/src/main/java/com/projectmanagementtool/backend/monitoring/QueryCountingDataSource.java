@@ -0,0 +1,72 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import com.projectmanagementtool.backend.model.IdSequences;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Set;
+
+// Compte dans QueryCounter chaque aller-retour vers la base : un executeBatch compte pour un,
+// quel que soit le nombre de lignes du lot. Les réservations d'ids dans IdSequences ne comptent pas :
+// une sur ALLOCATION_SIZE insertions, elles dépendent de l'état du pool et non de la requête.
+public class QueryCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(method, connection, args);
+                    // createStatement / prepareStatement / prepareCall : le type de retour donne l'interface à proxifier
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())
+                            && !isIdAllocation(args)) {
+                        return countingStatement(statement, method.getReturnType());
+                    }
+                    return result;
+                });
+    }
+
+    private static Object countingStatement(Statement statement, Class<?> type) {
+        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (EXECUTE_METHODS.contains(method.getName())) {
+                        QueryCounter.increment();
+                    }
+                    return invoke(method, statement, args);
+                });
+    }
+
+    private static boolean isIdAllocation(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String sql
+                && sql.toLowerCase(Locale.ROOT).contains(IdSequences.TABLE);
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
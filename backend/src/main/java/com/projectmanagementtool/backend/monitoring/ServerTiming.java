@@ -0,0 +1,91 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import java.util.Locale;
+
+// Temps d'une requête par phase, restitué dans l'en-tête Server-Timing. Attaché au thread de la
+// requête par ServerTimingFilter ; sans collecteur (désactivé, thread d'arrière-plan), record() ne fait rien.
+public final class ServerTiming {
+    public static final String HEADER = "Server-Timing";
+
+    public enum Phase {
+        AUTH("auth"), DB("db"), MAPPING("mapping"), JSON("json");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long startQueries = QueryCounter.current();
+    private final boolean countQueries;
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] depth = new int[Phase.values().length];
+    private boolean written;
+
+    private ServerTiming(boolean countQueries) {
+        this.countQueries = countQueries;
+    }
+
+    static ServerTiming start(boolean countQueries) {
+        ServerTiming timing = new ServerTiming(countQueries);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void record(Phase phase, long startNanos) {
+        ServerTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.nanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    // Une phase imbriquée dans elle-même (repository qui appelle un repository) n'est comptée qu'une fois
+    boolean enter(Phase phase) {
+        return depth[phase.ordinal()]++ == 0;
+    }
+
+    void exit(Phase phase, boolean outermost, long startNanos) {
+        depth[phase.ordinal()]--;
+        if (outermost) {
+            nanos[phase.ordinal()] += System.nanoTime() - startNanos;
+        }
+    }
+
+    boolean isWritten() {
+        return written;
+    }
+
+    // Figé au premier appel : le corps suit l'en-tête, ce qui vient après n'est plus mesurable
+    String header() {
+        written = true;
+        StringBuilder header = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            long phaseNanos = nanos[phase.ordinal()];
+            if (phaseNanos == 0 && phase != Phase.DB) {
+                continue;
+            }
+            header.append(phase.metric).append(";dur=").append(millis(phaseNanos));
+            if (phase == Phase.DB && countQueries) {
+                header.append(";desc=\"").append(QueryCounter.current() - startQueries).append(" queries\"");
+            }
+            header.append(", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
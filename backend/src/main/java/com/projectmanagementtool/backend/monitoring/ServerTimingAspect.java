@@ -0,0 +1,35 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// Phases "db" (méthodes des repositories Spring Data, fragments custom compris) et "mapping"
+@Aspect
+public class ServerTimingAspect {
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "|| within(com.projectmanagementtool.backend.repository..*)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(ServerTiming.Phase.DB, joinPoint);
+    }
+
+    @Around("within(com.projectmanagementtool.backend.mapper..*) && execution(public * *(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(ServerTiming.Phase.MAPPING, joinPoint);
+    }
+
+    private static Object time(ServerTiming.Phase phase, ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        boolean outermost = timing.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.exit(phase, outermost, start);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Ouvre le collecteur de la requête et écrit l'en-tête au dernier moment où c'est possible :
+// premier accès au corps, sendError/sendRedirect, ou fin de la chaîne pour une réponse vide.
+public class ServerTimingFilter extends OncePerRequestFilter {
+    private final boolean countQueries;
+
+    public ServerTimingFilter(boolean countQueries) {
+        this.countQueries = countQueries;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start(countQueries);
+        TimedResponse timedResponse = new TimedResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+            timedResponse.writeHeader();
+        } finally {
+            ServerTiming.clear();
+        }
+    }
+
+    private static final class TimedResponse extends HttpServletResponseWrapper {
+        private final ServerTiming timing;
+
+        TimedResponse(HttpServletResponse response, ServerTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void writeHeader() {
+            if (!timing.isWritten() && !isCommitted()) {
+                setHeader(ServerTiming.HEADER, timing.header());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+// Sérialise d'abord dans un tampon pour mesurer Jackson seul : l'en-tête Server-Timing, écrit au
+// premier accès au corps (ServerTimingFilter), inclut alors la phase "json"
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJsonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null || timing.isWritten()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        ServerTiming.record(ServerTiming.Phase.JSON, start);
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
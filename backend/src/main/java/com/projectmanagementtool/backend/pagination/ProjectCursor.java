@@ -0,0 +1,52 @@
+package com.projectmanagementtool.backend.pagination;
+
+import com.projectmanagementtool.backend.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Les projets sont parcourus par id croissant : le curseur ne porte que le dernier id vu
+public final class ProjectCursor {
+    private static final String PREFIX = "P|";
+
+    private final Long id;
+
+    private ProjectCursor(Long id) {
+        this.id = id;
+    }
+
+    public static ProjectCursor after(Long projectId) {
+        return new ProjectCursor(projectId);
+    }
+
+    public static ProjectCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (!raw.startsWith(PREFIX)) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+
+        try {
+            return new ProjectCursor(Long.valueOf(raw.substring(PREFIX.length())));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = PREFIX + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,68 @@
+package com.projectmanagementtool.backend.pagination;
+
+import com.projectmanagementtool.backend.exception.InvalidCursorException;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Position opaque (tri, clé, id) encodée en base64 URL-safe, renvoyée telle quelle par le client
+public final class TaskCursor {
+    private static final String SEPARATOR = "|";
+
+    private final TaskSort sort;
+    private final String key;
+    private final Long id;
+
+    private TaskCursor(TaskSort sort, String key, Long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static TaskCursor after(TaskRow task, TaskSort sort) {
+        return new TaskCursor(sort, sort.keyOf(task), task.getId());
+    }
+
+    public static TaskCursor decode(String cursor, TaskSort expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (parts.length != 3) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (!expectedSort.name().equals(parts[0])) {
+            throw new InvalidCursorException("Cursor was issued for another sort order");
+        }
+
+        try {
+            return new TaskCursor(expectedSort, parts[1].isEmpty() ? null : parts[1], Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + (key != null ? key : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TaskSort getSort() {
+        return sort;
+    }
+
+    public Object getKey() {
+        return sort.parseKey(key);
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
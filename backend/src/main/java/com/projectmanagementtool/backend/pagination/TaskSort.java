@@ -0,0 +1,71 @@
+package com.projectmanagementtool.backend.pagination;
+
+import com.projectmanagementtool.backend.exception.InvalidCursorException;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// Tri stable (clé, id) ascendant ; les clés nulles arrivent en premier, comme le tri natif
+// de MySQL et H2, afin que les index composites restent utilisables.
+public enum TaskSort {
+    ID("id", null),
+    PRIORITY("priority", "t.priority"),
+    DUE_DATE("dueDate", "t.dueDate");
+
+    private final String param;
+    private final String keyPath;
+
+    TaskSort(String param, String keyPath) {
+        this.param = param;
+        this.keyPath = keyPath;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    // Chemin JPQL de la clé de tri, null quand le tri porte uniquement sur l'id
+    public String getKeyPath() {
+        return keyPath;
+    }
+
+    public static TaskSort fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.param.equalsIgnoreCase(param) || sort.name().equalsIgnoreCase(param))
+                .findFirst()
+                .orElseThrow(() -> new InvalidCursorException("Unknown task sort: " + param));
+    }
+
+    public String keyOf(TaskRow task) {
+        switch (this) {
+            case PRIORITY:
+                return task.getPriority() != null ? task.getPriority().toString() : null;
+            case DUE_DATE:
+                return task.getDueDate() != null ? task.getDueDate().toString() : null;
+            default:
+                return null;
+        }
+    }
+
+    public Object parseKey(String key) {
+        if (key == null) {
+            return null;
+        }
+        try {
+            switch (this) {
+                case PRIORITY:
+                    return Integer.valueOf(key);
+                case DUE_DATE:
+                    return LocalDate.parse(key);
+                default:
+                    return null;
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor key: " + key);
+        }
+    }
+}
@@ -1,16 +1,43 @@
 package com.projectmanagementtool.backend.repository;
 
 import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.repository.projection.MemberRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
-    List<ProjectMember> findByProjectId(Long projectId);
-    List<ProjectMember> findByUserId(Long userId);
-    Optional<ProjectMember> findByProjectIdAndUserId(Long projectId, Long userId);
+    // Projet, utilisateur et rôle chargés avec le membre : le mapping ne déclenche plus une requête par membre
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.project JOIN FETCH m.user JOIN FETCH m.role " +
+           "WHERE m.project.id = :projectId ORDER BY m.id")
+    List<ProjectMember> findByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.project JOIN FETCH m.user JOIN FETCH m.role " +
+           "WHERE m.user.id = :userId ORDER BY m.id")
+    List<ProjectMember> findByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.project JOIN FETCH m.user JOIN FETCH m.role " +
+           "WHERE m.project.id = :projectId AND m.user.id = :userId")
+    Optional<ProjectMember> findByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
     Optional<ProjectMember> findByProjectIdAndUserUsername(Long projectId, String username);
-} 
\ No newline at end of file
+
+    @Query("SELECT new com.projectmanagementtool.backend.repository.projection.MemberRow(m.id, u.username, u.email, r.name) " +
+           "FROM ProjectMember m JOIN m.user u JOIN m.role r WHERE m.project.id = :projectId ORDER BY m.id")
+    List<MemberRow> findMemberRowsByProjectId(@Param("projectId") Long projectId);
+
+    // Parmi projectIds, ceux où l'utilisateur est Admin : une requête pour toute une opération bulk
+    @Query("SELECT m.project.id FROM ProjectMember m " +
+           "WHERE m.user.id = :userId AND m.role.name = 'Admin' AND m.project.id IN :projectIds")
+    List<Long> findAdminProjectIds(@Param("userId") Long userId, @Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying
+    @Query("DELETE FROM ProjectMember m WHERE m.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
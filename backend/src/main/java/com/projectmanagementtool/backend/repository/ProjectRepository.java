@@ -2,24 +2,67 @@ package com.projectmanagementtool.backend.repository;
 
 import com.projectmanagementtool.backend.model.Project;
 import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectVersionRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    // Projection ProjectRow restreinte aux projets dont l'utilisateur est membre
+    String PROJECT_ROW_SELECT = "SELECT new com.projectmanagementtool.backend.repository.projection.ProjectRow(" +
+            "p.id, p.name, p.description, s.name, p.startDate, p.endDate, r.name) " +
+            "FROM ProjectMember m JOIN m.project p JOIN p.status s JOIN m.role r ";
+
     List<Project> findByStatus(Status status);
     List<Project> findByNameContainingIgnoreCase(String name);
     boolean existsByNameIgnoreCase(String name);
-    List<Project> findByStatusId(Long statusId);
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.members WHERE p.id = :id")
-    Optional<Project> findByIdWithMembers(@Param("id") Long id);
-    
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.tasks WHERE p.id = :id")
-    Optional<Project> findByIdWithTasks(@Param("id") Long id);
+    // Projets dont l'utilisateur est membre, avec son rôle, en une seule requête
+    @Query(PROJECT_ROW_SELECT + "WHERE m.user.id = :userId ORDER BY p.id")
+    List<ProjectRow> findProjectRowsVisibleToUser(@Param("userId") Long userId);
+
+    // Page de projets par id croissant, sans requête de comptage
+    @Query(PROJECT_ROW_SELECT + "WHERE m.user.id = :userId AND p.id > :afterId ORDER BY p.id")
+    List<ProjectRow> findProjectRowsVisibleToUserAfter(@Param("userId") Long userId, @Param("afterId") Long afterId,
+                                                       Limit limit);
+
+    // En-tête d'un projet ; myRole est null si l'utilisateur n'en est pas membre
+    @Query("SELECT new com.projectmanagementtool.backend.repository.projection.ProjectRow(" +
+           "p.id, p.name, p.description, s.name, p.startDate, p.endDate, r.name) " +
+           "FROM Project p JOIN p.status s " +
+           "LEFT JOIN ProjectMember m ON m.project = p AND m.user.id = :userId LEFT JOIN m.role r " +
+           "WHERE p.id = :id")
+    Optional<ProjectRow> findProjectRowById(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Version agrégée et rôle de l'utilisateur : une lecture par clé primaire pour les GET conditionnels
+    @Query("SELECT new com.projectmanagementtool.backend.repository.projection.ProjectVersionRow(p.id, p.version, r.name) " +
+           "FROM Project p LEFT JOIN ProjectMember m ON m.project = p AND m.user.id = :userId LEFT JOIN m.role r " +
+           "WHERE p.id = :id")
+    Optional<ProjectVersionRow> findVersionRowById(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.version = p.version + 1 WHERE p.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.version = p.version + 1 " +
+           "WHERE p.id IN (SELECT t.project.id FROM Task t WHERE t.id IN :taskIds)")
+    int incrementVersionsOfTasks(@Param("taskIds") Collection<Long> taskIds);
+
+    // Sans passer par la cascade JPA : membres et tâches sont supprimés au préalable par ProjectDeleter
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+
+    @Query(PROJECT_ROW_SELECT + "WHERE m.user.id = :userId AND s.id = :statusId ORDER BY p.id")
+    List<ProjectRow> findProjectRowsVisibleToUserByStatusId(@Param("userId") Long userId, @Param("statusId") Long statusId);
 } 
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.projectmanagementtool.backend.repository;
+
+import com.projectmanagementtool.backend.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    // L'utilisateur vient avec le jeton : le nouvel access token se construit sans autre requête
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // Révocation conditionnelle : de deux rotations concurrentes du même jeton, une seule obtient 1
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revoke(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.family = :family AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("family") String family, @Param("now") LocalDateTime now);
+
+    // Purge à chaque login des jetons expirés de l'utilisateur, faute de tâche planifiée
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId AND r.expiresAt < :now")
+    int deleteExpiredByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -2,8 +2,12 @@ package com.projectmanagementtool.backend.repository;
 
 import com.projectmanagementtool.backend.model.TaskEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,4 +15,16 @@ public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
     List<TaskEvent> findByTaskId(Long taskId);
     List<TaskEvent> findByTaskIdOrderByDateDesc(Long taskId);
     void deleteByTaskId(Long taskId);
+
+    @Query("SELECT e FROM TaskEvent e WHERE e.task.id IN :taskIds ORDER BY e.task.id, e.id")
+    List<TaskEvent> findByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    // Suppressions ensemblistes utilisées par ProjectDeleter : aucun événement n'est chargé
+    @Modifying
+    @Query("DELETE FROM TaskEvent e WHERE e.task.id IN (SELECT t.id FROM Task t WHERE t.project.id = :projectId)")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM TaskEvent e WHERE e.task.id IN :taskIds")
+    int bulkDeleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
 } 
\ No newline at end of file
@@ -1,14 +1,96 @@
 package com.projectmanagementtool.backend.repository;
 
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.Status;
 import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.projection.TaskCountRow;
+import com.projectmanagementtool.backend.repository.projection.TaskOwnerRow;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectId(Long projectId);
-    List<Task> findByAssigneeId(Long assigneeId);
-    List<Task> findByProjectIdAndStatusId(Long projectId, Long statusId);
-} 
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    // Projection TaskRow ; le rôle de :userId est null s'il n'est pas membre du projet
+    String TASK_ROW_SELECT = "SELECT new com.projectmanagementtool.backend.repository.projection.TaskRow(" +
+            "t.id, t.name, t.description, t.dueDate, t.priority, s.name, " +
+            "p.id, p.name, p.description, ps.name, a.id, a.username, a.email, r.name) " +
+            "FROM Task t JOIN t.status s JOIN t.project p JOIN p.status ps LEFT JOIN t.assignee a ";
+    String MEMBER_ROLE_JOIN = "LEFT JOIN ProjectMember m ON m.project = p AND m.user.id = :userId LEFT JOIN m.role r ";
+    // Variante restrictive : seules les tâches des projets dont :userId est membre
+    String MEMBER_ONLY_JOIN = "JOIN ProjectMember m ON m.project = p AND m.user.id = :userId JOIN m.role r ";
+    // Compteurs par (projet, statut) ; une tâche est en retard si son échéance est passée et qu'elle n'est pas terminée
+    String TASK_COUNT_SELECT = "SELECT new com.projectmanagementtool.backend.repository.projection.TaskCountRow(" +
+            "t.project.id, s.name, COUNT(t), " +
+            "SUM(CASE WHEN t.dueDate < :today AND s.name <> 'Done' THEN 1L ELSE 0L END)) " +
+            "FROM Task t JOIN t.status s ";
+
+    // Tâches des projets dont l'utilisateur est membre, avec son rôle, en une seule requête
+    @Query(TASK_ROW_SELECT + MEMBER_ONLY_JOIN + "ORDER BY t.id")
+    List<TaskRow> findTaskRowsVisibleToUser(@Param("userId") Long userId);
+
+    @Query(TASK_ROW_SELECT + MEMBER_ROLE_JOIN + "WHERE p.id = :projectId ORDER BY t.id")
+    List<TaskRow> findTaskRowsByProjectId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query(TASK_ROW_SELECT + MEMBER_ROLE_JOIN + "WHERE a.id = :assigneeId ORDER BY t.id")
+    List<TaskRow> findTaskRowsByAssigneeId(@Param("assigneeId") Long assigneeId, @Param("userId") Long userId);
+
+    @Query(TASK_ROW_SELECT + MEMBER_ROLE_JOIN + "WHERE p.id = :projectId AND s.id = :statusId ORDER BY t.id")
+    List<TaskRow> findTaskRowsByProjectIdAndStatusId(@Param("projectId") Long projectId,
+                                                     @Param("statusId") Long statusId,
+                                                     @Param("userId") Long userId);
+
+    @Query(TASK_COUNT_SELECT + "WHERE t.project.id IN :projectIds GROUP BY t.project.id, s.name")
+    List<TaskCountRow> countTasksByProjectIds(@Param("projectIds") Collection<Long> projectIds,
+                                              @Param("today") LocalDate today);
+
+    @Query(TASK_COUNT_SELECT +
+           "WHERE t.project.id IN (SELECT m.project.id FROM ProjectMember m WHERE m.user.id = :userId) " +
+           "GROUP BY t.project.id, s.name")
+    List<TaskCountRow> countTasksVisibleToUser(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int bulkDeleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.projectmanagementtool.backend.repository.projection.TaskOwnerRow(t.id, t.project.id) " +
+           "FROM Task t WHERE t.id IN :ids")
+    List<TaskOwnerRow> findOwnerRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Mises à jour ensemblistes des opérations bulk : une requête quel que soit le nombre de tâches
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.priority = :priority, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updatePriority(@Param("ids") Collection<Long> ids, @Param("priority") Integer priority);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.dueDate = :dueDate, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateDueDate(@Param("ids") Collection<Long> ids, @Param("dueDate") LocalDate dueDate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.project = :project, t.version = t.version + 1 WHERE t.id IN :ids")
+    int moveToProject(@Param("ids") Collection<Long> ids, @Param("project") Project project);
+}
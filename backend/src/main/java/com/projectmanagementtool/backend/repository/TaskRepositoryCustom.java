@@ -0,0 +1,13 @@
+package com.projectmanagementtool.backend.repository;
+
+import com.projectmanagementtool.backend.pagination.TaskCursor;
+import com.projectmanagementtool.backend.pagination.TaskSort;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    // Pagination par clé (keyset) : chaque page coûte le même prix, sans OFFSET
+    List<TaskRow> findPage(Long userId, Long projectId, Long assigneeId, Long statusId,
+                           TaskSort sort, TaskCursor after, int limit);
+}
@@ -0,0 +1,68 @@
+package com.projectmanagementtool.backend.repository;
+
+import com.projectmanagementtool.backend.pagination.TaskCursor;
+import com.projectmanagementtool.backend.pagination.TaskSort;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskRow> findPage(Long userId, Long projectId, Long assigneeId, Long statusId,
+                                  TaskSort sort, TaskCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(TaskRepository.TASK_ROW_SELECT)
+                // Pages réservées aux membres : un non-membre ne voit aucune tâche, même par assignee
+                .append(TaskRepository.MEMBER_ONLY_JOIN)
+                .append("WHERE 1 = 1");
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+
+        if (projectId != null) {
+            jpql.append(" AND p.id = :projectId");
+            params.put("projectId", projectId);
+        }
+        if (assigneeId != null) {
+            jpql.append(" AND a.id = :assigneeId");
+            params.put("assigneeId", assigneeId);
+        }
+        if (statusId != null) {
+            jpql.append(" AND s.id = :statusId");
+            params.put("statusId", statusId);
+        }
+
+        String keyPath = sort.getKeyPath();
+        if (after != null) {
+            params.put("afterId", after.getId());
+            if (keyPath == null) {
+                jpql.append(" AND t.id > :afterId");
+            } else if (after.getKey() == null) {
+                // Still inside the leading block of null keys
+                jpql.append(" AND ((").append(keyPath).append(" IS NULL AND t.id > :afterId) OR ")
+                        .append(keyPath).append(" IS NOT NULL)");
+            } else {
+                jpql.append(" AND (").append(keyPath).append(" > :afterKey OR (")
+                        .append(keyPath).append(" = :afterKey AND t.id > :afterId))");
+                params.put("afterKey", after.getKey());
+            }
+        }
+
+        jpql.append(" ORDER BY ");
+        if (keyPath != null) {
+            jpql.append(keyPath).append(" ASC, ");
+        }
+        jpql.append("t.id ASC");
+
+        TypedQuery<TaskRow> query = entityManager.createQuery(jpql.toString(), TaskRow.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
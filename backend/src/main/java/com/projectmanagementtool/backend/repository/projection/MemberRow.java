@@ -0,0 +1,14 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Membre d'un projet avec son utilisateur et son rôle, chargé sans proxy lazy
+@Getter
+@AllArgsConstructor
+public class MemberRow {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String roleName;
+}
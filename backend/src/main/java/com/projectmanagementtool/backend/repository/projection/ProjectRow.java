@@ -0,0 +1,19 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// Colonnes lues par ProjectDto, chargées en une requête jointe sans entité managée
+@Getter
+@AllArgsConstructor
+public class ProjectRow {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String statusName;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String myRole;
+}
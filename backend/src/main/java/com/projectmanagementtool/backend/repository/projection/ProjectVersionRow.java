@@ -0,0 +1,13 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Version agrégée d'un projet et rôle de l'utilisateur courant (null s'il n'est pas membre)
+@Getter
+@AllArgsConstructor
+public class ProjectVersionRow {
+    private final Long projectId;
+    private final long version;
+    private final String myRole;
+}
@@ -0,0 +1,14 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Agrégat (projet, statut) : nombre de tâches et nombre de tâches en retard
+@Getter
+@AllArgsConstructor
+public class TaskCountRow {
+    private final Long projectId;
+    private final String statusName;
+    private final Long taskCount;
+    private final Long overdueCount;
+}
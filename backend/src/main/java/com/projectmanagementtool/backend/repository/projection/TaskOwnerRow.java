@@ -0,0 +1,12 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Projet d'appartenance d'une tâche, pour vérifier les droits sans charger l'entité
+@Getter
+@AllArgsConstructor
+public class TaskOwnerRow {
+    private final Long taskId;
+    private final Long projectId;
+}
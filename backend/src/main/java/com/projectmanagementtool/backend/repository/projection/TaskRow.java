@@ -0,0 +1,26 @@
+package com.projectmanagementtool.backend.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// Colonnes lues par TaskDto, chargées en une requête jointe sans entité managée
+@Getter
+@AllArgsConstructor
+public class TaskRow {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final LocalDate dueDate;
+    private final Integer priority;
+    private final String statusName;
+    private final Long projectId;
+    private final String projectName;
+    private final String projectDescription;
+    private final String projectStatusName;
+    private final Long assigneeId;
+    private final String assigneeUsername;
+    private final String assigneeEmail;
+    private final String myRole;
+}
@@ -1,5 +1,8 @@
 package com.projectmanagementtool.backend.security;
 
+import com.projectmanagementtool.backend.monitoring.ServerTiming;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,10 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (!contextPath.isEmpty() && path.startsWith(contextPath)) {
             path = path.substring(contextPath.length());
         }
-        logger.info("Checking path: {}", path);
-        boolean shouldNotFilter = path.startsWith("/public/") || path.startsWith("/api/auth/");
-        logger.info("Should not filter: {}", shouldNotFilter);
-        return shouldNotFilter;
+        return path.startsWith("/public/") || path.startsWith("/api/auth/");
     }
 
     @Override
@@ -47,41 +47,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
-        logger.info("Processing request: {} {}", request.getMethod(), request.getRequestURI());
-        
-        if (shouldNotFilter(request)) {
-            logger.info("Skipping JWT filter for path: {}", request.getRequestURI());
-            filterChain.doFilter(request, response);
-            return;
+        // shouldNotFilter est déjà appliqué par OncePerRequestFilter ; la requête elle-même est tracée par AccessLogFilter
+        long start = System.nanoTime();
+        try {
+            authenticate(request);
+        } finally {
+            ServerTiming.record(ServerTiming.Phase.AUTH, start);
         }
+        filterChain.doFilter(request, response);
+    }
 
+    private void authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            logger.info("No JWT token found in request headers");
-            filterChain.doFilter(request, response);
             return;
         }
 
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-                logger.info("JWT token validated for user: {}", username);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Claims claims;
+            try {
+                // Une seule vérification de signature et d'expiration par requête
+                claims = jwtService.verify(jwt);
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.debug("Rejected JWT token: {}", e.getMessage());
+                return;
             }
+
+            UserDetails principal = jwtService.toAuthenticatedUser(claims);
+            if (principal == null) {
+                // Token émis avant l'ajout des claims uid/email : on retombe sur la base
+                principal = this.userDetailsService.loadUserByUsername(claims.getSubject());
+            }
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                principal.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            logger.debug("JWT token validated for user: {}", principal.getUsername());
         }
-        filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+}
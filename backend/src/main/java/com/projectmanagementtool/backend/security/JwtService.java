@@ -1,41 +1,130 @@
 package com.projectmanagementtool.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_EMAIL = "email";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    // Clé et parser construits une fois au démarrage, tous deux thread-safe
+    private Key signInKey;
+    private JwtParser parser;
+
+    // Tokens déjà vérifiés, indexés par empreinte SHA-256 et expirés à leur claim exp
+    private Cache<String, Claims> verifiedTokens;
+
+    // Registre local quand le service est instancié hors contexte Spring (tests, benchmarks)
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        cachedTimer = verifyTimer("cached");
+        verifiedTimer = verifyTimer("verified");
+        rejectedTimer = verifyTimer("rejected");
+        signInKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signInKey).build();
+        verifiedTokens = cacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfter(new ExpireAtTokenExpiration())
+                        .build()
+                : null;
+    }
+
+    // Vérifie la signature et l'expiration puis décode les claims, une seule fois par token
+    public Claims verify(String token) {
+        long start = System.nanoTime();
+        Timer timer = rejectedTimer;
+        try {
+            if (verifiedTokens == null) {
+                Claims claims = parser.parseClaimsJws(token).getBody();
+                timer = verifiedTimer;
+                return claims;
+            }
+
+            String digest = digest(token);
+            Claims claims = verifiedTokens.getIfPresent(digest);
+            if (claims == null) {
+                claims = parser.parseClaimsJws(token).getBody();
+                verifiedTokens.put(digest, claims);
+                timer = verifiedTimer;
+            } else {
+                timer = cachedTimer;
+            }
+            return claims;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token));
     }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    // Embarque l'id et l'email pour que chaque requête authentifiée se passe de la base
+    public String generateToken(AuthenticatedUser user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getId());
+        claims.put(CLAIM_EMAIL, user.getEmail());
+        return generateToken(claims, user);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return Jwts
                 .builder()
@@ -43,37 +132,67 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    // Renvoie null pour les tokens émis sans claim uid (avant son introduction)
+    public AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        if (userId == null) {
+            return null;
+        }
+        return new AuthenticatedUser(userId.longValue(), claims.getSubject(), claims.get(CLAIM_EMAIL, String.class), null);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public AuthenticatedUser extractAuthenticatedUser(String token) {
+        return toAuthenticatedUser(verify(token));
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        Claims claims = verify(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     public Long getExpirationTime(String token) {
-        return extractExpiration(token).getTime();
+        return extractClaim(token, Claims::getExpiration).getTime();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private Timer verifyTimer(String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("JWT signature, expiration and claims verification")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    private Key getSignInKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.projectmanagementtool.backend.security;
+
+import com.projectmanagementtool.backend.exception.InvalidRefreshTokenException;
+import com.projectmanagementtool.backend.model.RefreshToken;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.RefreshTokenRepository;
+import com.projectmanagementtool.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+// Refresh tokens opaques à rotation : chaque échange révoque le jeton présenté et en émet un nouveau
+// dans la même famille. Un jeton déjà échangé qui revient (vol, rejeu) révoque toute la famille.
+// 256 bits aléatoires : un SHA-256 suffit pour le stockage, sans le coût de BCrypt.
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpiration;
+
+    public record Rotation(AuthenticatedUser user, String refreshToken) {
+    }
+
+    // Nouvelle famille, au login
+    @Transactional
+    public String issue(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteExpiredByUserId(userId, now);
+        return save(userRepository.getReferenceById(userId), UUID.randomUUID().toString(), now);
+    }
+
+    // La révocation de famille doit survivre à l'exception
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.revoke(current.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamily(), now);
+            logger.warn("Refresh token reused for user {}, {} token(s) of its family revoked",
+                    current.getUser().getId(), revoked);
+            throw new InvalidRefreshTokenException("Invalid refresh token");
+        }
+
+        User user = current.getUser();
+        return new Rotation(AuthenticatedUser.from(user), save(user, current.getFamily(), now));
+    }
+
+    // Déconnexion : la famille entière, un jeton inconnu est ignoré
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamily(), LocalDateTime.now()));
+    }
+
+    private String save(User user, String family, LocalDateTime now) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setUser(user);
+        token.setTokenHash(hash(rawToken));
+        token.setFamily(family);
+        token.setExpiresAt(now.plus(refreshExpiration, ChronoUnit.MILLIS));
+        refreshTokenRepository.save(token);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -12,13 +12,30 @@ import org.springframework.stereotype.Component;
 public class SecurityUtils {
     private final UserRepository userRepository;
 
-    public User getCurrentUser() {
+    // Identité issue du JWT, sans accès à la base
+    public AuthenticatedUser getCurrentPrincipal() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    public Long getCurrentUserId() {
+        AuthenticatedUser principal = getCurrentPrincipal();
+        return principal != null ? principal.getId() : null;
+    }
+
+    // Charge l'entité User ; à réserver aux chemins d'écriture qui en ont besoin
+    public User getCurrentUser() {
+        Long userId = getCurrentUserId();
+        if (userId == null) {
+            return null;
+        }
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,246 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.dto.ProjectChangeDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Diffusion en mémoire des changements d'un projet vers ses abonnés SSE. Les services publient
+// après le commit ; chaque abonné a sa propre file bornée, vidée par un petit pool de threads,
+// pour qu'un client lent ne bloque ni la requête qui publie ni les autres abonnés. File pleine :
+// les notifications en attente sont remplacées par un unique événement "resync" (rechargement complet).
+@Component
+public class ProjectChangeBroadcaster {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectChangeBroadcaster.class);
+
+    public static final String RESYNC = "resync";
+    public static final String PROJECT_DELETED = "project.deleted";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, Set<Subscriber>> subscribersByProject = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${projects.stream.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${projects.stream.heartbeat-seconds:25}")
+    private long heartbeatSeconds;
+
+    @Value("${projects.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${projects.stream.dispatcher-threads:2}")
+    private int dispatcherThreads;
+
+    private ScheduledExecutorService dispatcher;
+    private Counter resyncCounter;
+
+    public ProjectChangeBroadcaster(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dispatcher = Executors.newScheduledThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "project-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        Gauge.builder("projects.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open project change streams")
+                .register(meterRegistry);
+        resyncCounter = Counter.builder("projects.stream.resync")
+                .description("Project change notifications dropped for a slow subscriber and replaced by a resync")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        subscribersByProject.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+        subscribersByProject.clear();
+    }
+
+    // resync : le client reprend après une coupure et a pu manquer des notifications
+    public SseEmitter subscribe(Long projectId, Long userId, boolean resync) {
+        Subscriber subscriber = new Subscriber(projectId, userId, new SseEmitter(timeoutMs), bufferSize);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+
+        // compute/computeIfPresent : l'ajout et le retrait d'un ensemble vide sont atomiques par projet
+        subscribersByProject.compute(projectId, (id, subscribers) -> {
+            Set<Subscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+        if (resync) {
+            subscriber.resync.set(true);
+            schedule(subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    public void publish(Long projectId, String type, Long entityId) {
+        ProjectChangeDto change = new ProjectChangeDto(projectId, type, entityId);
+        afterCommit(() -> dispatch(change));
+    }
+
+    // L'appartenance n'est vérifiée qu'à l'ouverture : un membre retiré perd ses flux sur ce projet.
+    // Enregistré après publish, le flux transmet encore les notifications en file avant de se fermer.
+    public void disconnect(Long projectId, Long userId) {
+        afterCommit(() -> {
+            Set<Subscriber> subscribers = subscribersByProject.get(projectId);
+            if (subscribers == null) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.userId.equals(userId)) {
+                    subscriber.closing = true;
+                    schedule(subscriber);
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void dispatch(ProjectChangeDto change) {
+        Set<Subscriber> subscribers = subscribersByProject.get(change.getProjectId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (PROJECT_DELETED.equals(change.getType())) {
+                subscriber.closing = true;
+            }
+            if (!subscriber.queue.offer(change)) {
+                subscriber.queue.clear();
+                subscriber.resync.set(true);
+                resyncCounter.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            if (subscriber.resync.getAndSet(false)) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(sequence.incrementAndGet()))
+                        .name(RESYNC)
+                        .data(new ProjectChangeDto(subscriber.projectId, RESYNC, null)));
+            }
+            ProjectChangeDto change;
+            while ((change = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(sequence.incrementAndGet()))
+                        .name(change.getType())
+                        .data(change));
+            }
+            if (subscriber.closing) {
+                subscriber.emitter.complete();
+                remove(subscriber);
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client parti : onCompletion/onError ne sont pas toujours appelés, on retire l'abonné ici
+            logger.debug("Closing project {} stream: {}", subscriber.projectId, e.getMessage());
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (!subscriber.queue.isEmpty() || subscriber.resync.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    // Garde la connexion ouverte à travers les proxys et détecte les clients disparus
+    private void heartbeat() {
+        subscribersByProject.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(subscriber);
+            }
+        }));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribersByProject.computeIfPresent(subscriber.projectId, (id, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    int subscriberCount(Long projectId) {
+        Set<Subscriber> subscribers = subscribersByProject.get(projectId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    private static final class Subscriber {
+        private final Long projectId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ProjectChangeDto> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean resync = new AtomicBoolean();
+        private volatile boolean closing;
+
+        private Subscriber(Long projectId, Long userId, SseEmitter emitter, int bufferSize) {
+            this.projectId = projectId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
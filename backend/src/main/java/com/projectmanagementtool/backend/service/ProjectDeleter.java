@@ -0,0 +1,57 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.repository.ProjectMemberRepository;
+import com.projectmanagementtool.backend.repository.ProjectRepository;
+import com.projectmanagementtool.backend.repository.TaskEventRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Supprime un projet par des DELETE ensemblistes, sans charger ni tâches ni événements.
+// Avec projects.delete.chunk-size > 0, les tâches et leur historique partent par lots,
+// chacun dans sa propre transaction, pour borner la durée des verrous sur les gros projets.
+@Component
+@RequiredArgsConstructor
+public class ProjectDeleter {
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final TaskEventRepository taskEventRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${projects.delete.chunk-size:0}")
+    private int chunkSize;
+
+    public void delete(Long projectId) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        if (chunkSize > 0) {
+            Integer deleted;
+            do {
+                deleted = transaction.execute(status -> deleteTaskChunk(projectId));
+            } while (deleted != null && deleted == chunkSize);
+        }
+
+        transaction.executeWithoutResult(status -> {
+            taskEventRepository.bulkDeleteByProjectId(projectId);
+            taskRepository.bulkDeleteByProjectId(projectId);
+            projectMemberRepository.bulkDeleteByProjectId(projectId);
+            projectRepository.bulkDeleteById(projectId);
+        });
+    }
+
+    private int deleteTaskChunk(Long projectId) {
+        List<Long> taskIds = taskRepository.findIdsByProjectId(projectId, Limit.of(chunkSize));
+        if (!taskIds.isEmpty()) {
+            taskEventRepository.bulkDeleteByTaskIdIn(taskIds);
+            taskRepository.bulkDeleteByIdIn(taskIds);
+        }
+        return taskIds.size();
+    }
+}
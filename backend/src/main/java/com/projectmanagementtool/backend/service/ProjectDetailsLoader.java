@@ -0,0 +1,53 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.dto.ProjectDetailsDto;
+import com.projectmanagementtool.backend.dto.TaskDto;
+import com.projectmanagementtool.backend.dto.TaskEventDto;
+import com.projectmanagementtool.backend.mapper.ProjectMapper;
+import com.projectmanagementtool.backend.mapper.TaskMapper;
+import com.projectmanagementtool.backend.repository.ProjectMemberRepository;
+import com.projectmanagementtool.backend.repository.ProjectRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.repository.projection.MemberRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Charge le détail d'un projet en un nombre fixe de requêtes, quelle que soit sa taille :
+// en-tête + rôle, membres, tâches, puis l'historique de toutes les tâches par lots.
+@Component
+@RequiredArgsConstructor
+public class ProjectDetailsLoader {
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final TaskEventService taskEventService;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+
+    @Transactional(readOnly = true)
+    public Optional<ProjectRow> loadHeader(Long projectId, Long userId) {
+        return projectRepository.findProjectRowById(projectId, userId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectDetailsDto loadDetails(ProjectRow header, Long userId) {
+        List<MemberRow> members = projectMemberRepository.findMemberRowsByProjectId(header.getId());
+        List<TaskRow> taskRows = taskRepository.findTaskRowsByProjectId(header.getId(), userId);
+
+        Map<Long, List<TaskEventDto>> taskHistories = taskEventService.getTaskEventsByTaskIds(
+                taskRows.stream().map(TaskRow::getId).collect(Collectors.toList()));
+        List<TaskDto> tasks = taskRows.stream()
+                .map(row -> taskMapper.toDto(row, taskHistories.get(row.getId())))
+                .collect(Collectors.toList());
+
+        return projectMapper.toDetailsDto(header, members, tasks);
+    }
+}
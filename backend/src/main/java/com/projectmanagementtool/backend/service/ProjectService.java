@@ -1,29 +1,34 @@
 package com.projectmanagementtool.backend.service;
 
+import com.projectmanagementtool.backend.dto.CursorPageDto;
 import com.projectmanagementtool.backend.dto.ProjectDetailsDto;
 import com.projectmanagementtool.backend.dto.ProjectDto;
 import com.projectmanagementtool.backend.dto.ProjectRequestDto;
-import com.projectmanagementtool.backend.dto.TaskDto;
 import com.projectmanagementtool.backend.mapper.ProjectMapper;
-import com.projectmanagementtool.backend.mapper.TaskMapper;
 import com.projectmanagementtool.backend.model.Project;
 import com.projectmanagementtool.backend.model.ProjectMember;
 import com.projectmanagementtool.backend.model.Role;
 import com.projectmanagementtool.backend.model.Status;
-import com.projectmanagementtool.backend.model.Task;
 import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.pagination.ProjectCursor;
 import com.projectmanagementtool.backend.repository.ProjectRepository;
-import com.projectmanagementtool.backend.repository.RoleRepository;
-import com.projectmanagementtool.backend.repository.StatusRepository;
 import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectVersionRow;
+import com.projectmanagementtool.backend.repository.projection.TaskCountRow;
 import com.projectmanagementtool.backend.security.SecurityUtils;
 import com.projectmanagementtool.backend.exception.ResourceNotFoundException;
 import com.projectmanagementtool.backend.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,31 +36,50 @@ import java.util.stream.Collectors;
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final SecurityUtils securityUtils;
-    private final StatusRepository statusRepository;
     private final TaskRepository taskRepository;
-    private final TaskMapper taskMapper;
-    private final TaskEventService taskEventService;
+    private final ProjectDetailsLoader projectDetailsLoader;
+    private final ProjectDeleter projectDeleter;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+
+    @Value("${pagination.projects.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${pagination.projects.max-size:100}")
+    private int maxPageSize;
 
     @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(project -> {
-                    String myRole = getMyRole(project);
-                    if (myRole == null) {
-                        return null;
-                    }
-
-                    Status status = project.getStatus();
-                    if (status == null) {
-                        return null;
-                    }
-
-                    return projectMapper.toDto(project, myRole);
-                })
-                .filter(project -> project != null)
-                .collect(Collectors.toList());
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            return List.of();
+        }
+
+        return withTaskCounts(projectRepository.findProjectRowsVisibleToUser(currentUserId),
+                taskRepository.countTasksVisibleToUser(currentUserId, LocalDate.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProjectDto> getProjectsPage(String cursor, Integer size) {
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            return new CursorPageDto<>(List.of(), null, false);
+        }
+
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        List<ProjectRow> rows = projectRepository.findProjectRowsVisibleToUserAfter(
+                currentUserId, after != null ? after.getId() : 0L, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? ProjectCursor.after(rows.get(rows.size() - 1).getId()).encode() : null;
+        return new CursorPageDto<>(withTaskCountsOf(rows), nextCursor, hasMore);
     }
 
     @Transactional(readOnly = true)
@@ -78,46 +102,15 @@ public class ProjectService {
 
     @Transactional(readOnly = true)
     public ProjectDetailsDto getProjectDetails(Long id) {
-        // D'abord charger le projet avec ses membres
-        Project projectWithMembers = projectRepository.findByIdWithMembers(id)
+        Long currentUserId = securityUtils.getCurrentUserId();
+        ProjectRow header = projectDetailsLoader.loadHeader(id, currentUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        
-        // Ensuite charger le projet avec ses tâches
-        Project projectWithTasks = projectRepository.findByIdWithTasks(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        
-        // Utiliser les membres du premier chargement
-        Project project = projectWithMembers;
-        // Ajouter les tâches du second chargement
-        project.setTasks(projectWithTasks.getTasks());
 
-        String myRole = getMyRole(project);
-        if (myRole == null) {
+        if (header.getMyRole() == null) {
             return null;
         }
 
-        Status status = project.getStatus();
-        if (status == null) {
-            return null;
-        }
-
-        ProjectDetailsDto dto = projectMapper.toDetailsDto(project, myRole);
-
-        // Set tasks with details
-        List<TaskDto> tasks = project.getTasks().stream()
-                .map(task -> {
-                    TaskDto taskDto = taskMapper.toDto(task, myRole);
-                    if (taskDto != null) {
-                        // Set task history
-                        taskDto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-                    }
-                    return taskDto;
-                })
-                .filter(task -> task != null)
-                .collect(Collectors.toList());
-        dto.setTasks(tasks);
-
-        return dto;
+        return projectDetailsLoader.loadDetails(header, currentUserId);
     }
 
     @Transactional
@@ -127,10 +120,10 @@ public class ProjectService {
             throw new UnauthorizedException("User must be authenticated to create a project");
         }
 
-        Status status = statusRepository.findById(request.getStatusId())
+        Status status = referenceDataRegistry.findStatus(request.getStatusId())
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + request.getStatusId()));
 
-        Role adminRole = roleRepository.findByName("Admin")
+        Role adminRole = referenceDataRegistry.findRoleByName("Admin")
                 .orElseThrow(() -> new ResourceNotFoundException("Admin role not found"));
 
         Project project = new Project();
@@ -162,7 +155,7 @@ public class ProjectService {
             throw new UnauthorizedException("Only admin can update project");
         }
 
-        Status status = statusRepository.findById(request.getStatusId())
+        Status status = referenceDataRegistry.findStatus(request.getStatusId())
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found with id: " + request.getStatusId()));
 
         project.setName(request.getName());
@@ -172,31 +165,23 @@ public class ProjectService {
         project.setStatus(status);
 
         Project updatedProject = projectRepository.save(project);
+        projectVersionTracker.touch(List.of(id));
+        projectChangeBroadcaster.publish(id, "project.updated", id);
         return projectMapper.toDto(updatedProject, myRole);
     }
 
-    @Transactional
+    // Volontairement hors transaction : ProjectDeleter gère les siennes (une par lot)
     public ProjectDto deleteProject(Long id) {
-        Project project = projectRepository.findById(id)
+        ProjectRow project = projectRepository.findProjectRowById(id, securityUtils.getCurrentUserId())
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
-        
-        String myRole = getMyRole(project);
-        if (!"Admin".equals(myRole)) {
-            throw new UnauthorizedException("Only admin can delete project");
-        }
 
-        // Delete all tasks and their history
-        List<Task> tasks = taskRepository.findByProjectId(id);
-        for (Task task : tasks) {
-            taskEventService.deleteTaskEvents(task.getId());
+        if (!"Admin".equals(project.getMyRole())) {
+            throw new UnauthorizedException("Only admin can delete project");
         }
-        taskRepository.deleteAll(tasks);
 
-        // Delete project and its members
-        ProjectDto projectDto = projectMapper.toDto(project, myRole);
-        projectRepository.delete(project);
-
-        return projectDto;
+        projectDeleter.delete(id);
+        projectChangeBroadcaster.publish(id, ProjectChangeBroadcaster.PROJECT_DELETED, id);
+        return projectMapper.toDto(project);
     }
     
     @Transactional
@@ -209,42 +194,66 @@ public class ProjectService {
             throw new UnauthorizedException("Only admin or member can update project status");
         }
         
-        Status status = statusRepository.findByName(statusName)
+        Status status = referenceDataRegistry.findStatusByName(statusName)
                 .orElseThrow(() -> new ResourceNotFoundException("Status not found with name: " + statusName));
         
         project.setStatus(status);
         Project updatedProject = projectRepository.save(project);
+        projectVersionTracker.touch(List.of(id));
+        projectChangeBroadcaster.publish(id, "project.updated", id);
         
         return projectMapper.toDto(updatedProject, myRole);
     }
 
+    // Abonnement réservé aux membres, vérifié à l'ouverture du flux ; le retrait du membre le ferme
+    @Transactional(readOnly = true)
+    public SseEmitter streamProjectChanges(Long id, boolean resync) {
+        Long currentUserId = securityUtils.getCurrentUserId();
+        ProjectVersionRow project = projectRepository.findVersionRowById(id, currentUserId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
+
+        if (project.getMyRole() == null) {
+            throw new UnauthorizedException("Only project members can follow project changes");
+        }
+
+        return projectChangeBroadcaster.subscribe(id, currentUserId, resync);
+    }
+
     @Transactional(readOnly = true)
     public List<ProjectDto> getProjectsByStatusId(Long statusId) {
-        return projectRepository.findByStatusId(statusId).stream()
-                .map(project -> {
-                    String myRole = getMyRole(project);
-                    if (myRole == null) {
-                        return null;
-                    }
-
-                    Status status = project.getStatus();
-                    if (status == null) {
-                        return null;
-                    }
-
-                    return projectMapper.toDto(project, myRole);
-                })
-                .filter(project -> project != null)
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            return List.of();
+        }
+
+        return withTaskCountsOf(projectRepository.findProjectRowsVisibleToUserByStatusId(currentUserId, statusId));
+    }
+
+    // Un seul GROUP BY sur les tâches des projets de la page, quel que soit leur nombre
+    private List<ProjectDto> withTaskCountsOf(List<ProjectRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> projectIds = rows.stream().map(ProjectRow::getId).collect(Collectors.toList());
+        return withTaskCounts(rows, taskRepository.countTasksByProjectIds(projectIds, LocalDate.now()));
+    }
+
+    private List<ProjectDto> withTaskCounts(List<ProjectRow> rows, List<TaskCountRow> counts) {
+        Map<Long, List<TaskCountRow>> countsByProject = counts.stream()
+                .collect(Collectors.groupingBy(TaskCountRow::getProjectId));
+
+        return rows.stream()
+                .map(row -> projectMapper.toDto(row, countsByProject.getOrDefault(row.getId(), List.of())))
                 .collect(Collectors.toList());
     }
 
     private String getMyRole(Project project) {
-        User currentUser = securityUtils.getCurrentUser();
-        if (currentUser == null) {
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             return null;
         }
         return project.getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(currentUser.getId()))
+                .filter(member -> member.getUser().getId().equals(currentUserId))
                 .findFirst()
                 .map(member -> member.getRole().getName())
                 .orElse(null);
@@ -0,0 +1,45 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.repository.ProjectRepository;
+import com.projectmanagementtool.backend.repository.projection.ProjectVersionRow;
+import com.projectmanagementtool.backend.security.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// Toute écriture touchant un projet (tâches, historique, membres) incrémente sa version ;
+// les lectures de projet et de ses tâches en dérivent leur ETag sans charger les tâches.
+@Component
+@RequiredArgsConstructor
+public class ProjectVersionTracker {
+    private final ProjectRepository projectRepository;
+    private final SecurityUtils securityUtils;
+
+    @Transactional
+    public void touch(Collection<Long> projectIds) {
+        if (!projectIds.isEmpty()) {
+            projectRepository.incrementVersions(projectIds);
+        }
+    }
+
+    @Transactional
+    public void touchProjectsOfTasks(Collection<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            projectRepository.incrementVersionsOfTasks(taskIds);
+        }
+    }
+
+    // Le rôle fait partie de l'ETag : la réponse en dépend (myRole, accès refusé)
+    @Transactional(readOnly = true)
+    public Optional<String> currentEtag(Long projectId) {
+        return projectRepository.findVersionRowById(projectId, securityUtils.getCurrentUserId())
+                .map(ProjectVersionTracker::etag);
+    }
+
+    private static String etag(ProjectVersionRow row) {
+        return "\"" + row.getProjectId() + "-" + row.getVersion() + "-" + (row.getMyRole() != null ? row.getMyRole() : "none") + "\"";
+    }
+}
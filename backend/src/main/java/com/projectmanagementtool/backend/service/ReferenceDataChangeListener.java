@@ -0,0 +1,23 @@
+package com.projectmanagementtool.backend.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+// Listener JPA de Status et Role, instancié par Spring via le BeanContainer d'Hibernate.
+// Absent des contextes de test partiels, le registre est alors simplement ignoré.
+public class ReferenceDataChangeListener {
+    private final ObjectProvider<ReferenceDataRegistry> registry;
+
+    public ReferenceDataChangeListener(ObjectProvider<ReferenceDataRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        registry.ifAvailable(ReferenceDataRegistry::refreshAfterCommit);
+    }
+}
@@ -0,0 +1,116 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.repository.RoleRepository;
+import com.projectmanagementtool.backend.repository.StatusRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Statuts et rôles chargés au démarrage dans un instantané immuable, remplacé en bloc
+// quand ces tables changent (voir ReferenceDataChangeListener). Les entités servies sont
+// détachées : elles peuvent être affectées à une association mais ne doivent pas être modifiées.
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataRegistry {
+    private final StatusRepository statusRepository;
+    private final RoleRepository roleRepository;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void refresh() {
+        List<Status> statuses = statusRepository.findAll().stream()
+                .sorted(Comparator.comparing(Status::getId))
+                .toList();
+        List<Role> roles = roleRepository.findAll().stream()
+                .sorted(Comparator.comparing(Role::getId))
+                .toList();
+        snapshot = new Snapshot(
+                statuses,
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getId, Function.identity())),
+                statuses.stream().collect(Collectors.toUnmodifiableMap(Status::getName, Function.identity())),
+                etag(statuses.stream().map(s -> s.getId() + ":" + s.getName())),
+                roles,
+                roles.stream().collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity())),
+                roles.stream().collect(Collectors.toUnmodifiableMap(Role::getName, Function.identity())),
+                etag(roles.stream().map(r -> r.getId() + ":" + r.getName())));
+    }
+
+    // Recharge après le commit pour ne jamais publier un état annulé par un rollback
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    public List<Status> getStatuses() {
+        return snapshot.statuses();
+    }
+
+    public Optional<Status> findStatus(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.statusesById().get(id));
+    }
+
+    public Optional<Status> findStatusByName(String name) {
+        return Optional.ofNullable(name == null ? null : snapshot.statusesByName().get(name));
+    }
+
+    public String getStatusesEtag() {
+        return snapshot.statusesEtag();
+    }
+
+    public List<Role> getRoles() {
+        return snapshot.roles();
+    }
+
+    public Optional<Role> findRole(Long id) {
+        return Optional.ofNullable(id == null ? null : snapshot.rolesById().get(id));
+    }
+
+    public Optional<Role> findRoleByName(String name) {
+        return Optional.ofNullable(name == null ? null : snapshot.rolesByName().get(name));
+    }
+
+    public String getRolesEtag() {
+        return snapshot.rolesEtag();
+    }
+
+    // ETag fort : empreinte du contenu, identique d'un redémarrage ou d'une instance à l'autre
+    private static String etag(Stream<String> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(entries.collect(Collectors.joining(";")).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Snapshot(List<Status> statuses, Map<Long, Status> statusesById, Map<String, Status> statusesByName,
+                            String statusesEtag, List<Role> roles, Map<Long, Role> rolesById,
+                            Map<String, Role> rolesByName, String rolesEtag) {
+    }
+}
@@ -7,4 +7,5 @@ import java.util.Optional;
 public interface RoleService {
     List<Role> findAll();
     Optional<Role> findById(Long id);
+    String getEtag();
 } 
\ No newline at end of file
@@ -7,4 +7,5 @@ import java.util.Optional;
 public interface StatusService {
     List<Status> findAll();
     Optional<Status> findById(Long id);
+    String getEtag();
 } 
\ No newline at end of file
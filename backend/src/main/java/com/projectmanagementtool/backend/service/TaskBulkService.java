@@ -0,0 +1,17 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.dto.BulkItemResultDto;
+import com.projectmanagementtool.backend.dto.BulkTaskMoveDto;
+import com.projectmanagementtool.backend.dto.BulkTaskUpdateDto;
+import com.projectmanagementtool.backend.dto.TaskRequestDto;
+
+import java.util.List;
+
+// Opérations sur plusieurs tâches : droits vérifiés une fois par projet, un résultat par élément
+public interface TaskBulkService {
+    List<BulkItemResultDto> createTasks(List<TaskRequestDto> requests);
+
+    List<BulkItemResultDto> updateTasks(BulkTaskUpdateDto request);
+
+    List<BulkItemResultDto> moveTasks(BulkTaskMoveDto request);
+}
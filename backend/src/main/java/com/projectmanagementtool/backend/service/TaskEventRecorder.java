@@ -0,0 +1,15 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.model.Task;
+
+import java.util.Collection;
+
+// Point d'entrée unique pour journaliser les changements d'une tâche.
+// L'implémentation par défaut écrit dans la transaction courante ; le mode
+// write-behind (task-events.write-behind.enabled=true) écrit après le commit, par lots.
+public interface TaskEventRecorder {
+    void record(Task task, String description);
+
+    // Même événement pour plusieurs tâches, écrit en un seul lot (opérations bulk)
+    void recordAll(Collection<Long> taskIds, String description);
+}
@@ -3,10 +3,15 @@ package com.projectmanagementtool.backend.service;
 import com.projectmanagementtool.backend.dto.TaskEventDto;
 import com.projectmanagementtool.backend.model.TaskEvent;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface TaskEventService {
     List<TaskEventDto> getTaskEvents(Long taskId);
+
+    // Charge l'historique de plusieurs tâches en une seule passe, groupé par id de tâche
+    Map<Long, List<TaskEventDto>> getTaskEventsByTaskIds(Collection<Long> taskIds);
     
     TaskEventDto createTaskEvent(Long taskId, String description);
     
@@ -1,5 +1,6 @@
 package com.projectmanagementtool.backend.service;
 
+import com.projectmanagementtool.backend.dto.CursorPageDto;
 import com.projectmanagementtool.backend.dto.TaskDto;
 import com.projectmanagementtool.backend.dto.TaskRequestDto;
 import com.projectmanagementtool.backend.dto.TaskDetailsDto;
@@ -21,6 +22,9 @@ public interface TaskService {
     
     List<TaskDto> getTasksByProjectIdAndStatusId(Long projectId, Long statusId);
     
+    // Pagination par curseur ; projectId, assigneeId et statusId sont des filtres optionnels
+    CursorPageDto<TaskDto> getTasksPage(Long projectId, Long assigneeId, Long statusId, String sort, String cursor, Integer size);
+    
     TaskDto createTask(TaskRequestDto request);
     
     TaskDto updateTask(Long id, TaskRequestDto request);
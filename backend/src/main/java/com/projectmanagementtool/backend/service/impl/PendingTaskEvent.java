@@ -0,0 +1,7 @@
+package com.projectmanagementtool.backend.service.impl;
+
+import java.time.LocalDateTime;
+
+// Événement en attente d'écriture ; seul l'id de la tâche est retenu, pas l'entité détachée
+public record PendingTaskEvent(Long taskId, String description, LocalDateTime date) {
+}
@@ -8,9 +8,11 @@ import com.projectmanagementtool.backend.model.User;
 import com.projectmanagementtool.backend.repository.ProjectMemberRepository;
 import com.projectmanagementtool.backend.repository.ProjectRepository;
 import com.projectmanagementtool.backend.repository.UserRepository;
-import com.projectmanagementtool.backend.repository.RoleRepository;
 import com.projectmanagementtool.backend.security.SecurityUtils;
 import com.projectmanagementtool.backend.service.ProjectMemberService;
+import com.projectmanagementtool.backend.service.ProjectChangeBroadcaster;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
+import com.projectmanagementtool.backend.service.ReferenceDataRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,7 +29,9 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
     private final ProjectMemberRepository projectMemberRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
     private final SecurityUtils securityUtils;
 
     @Override
@@ -92,12 +96,20 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
 
     @Override
     public ProjectMember save(ProjectMember projectMember) {
-        return projectMemberRepository.save(projectMember);
+        ProjectMember saved = projectMemberRepository.save(projectMember);
+        projectVersionTracker.touch(List.of(saved.getProject().getId()));
+        projectChangeBroadcaster.publish(saved.getProject().getId(), "member.updated", saved.getId());
+        return saved;
     }
 
     @Override
     public void deleteById(Long id) {
-        projectMemberRepository.deleteById(id);
+        projectMemberRepository.findById(id).ifPresent(member -> {
+            projectMemberRepository.delete(member);
+            projectVersionTracker.touch(List.of(member.getProject().getId()));
+            projectChangeBroadcaster.publish(member.getProject().getId(), "member.removed", id);
+            projectChangeBroadcaster.disconnect(member.getProject().getId(), member.getUser().getId());
+        });
     }
 
     @Override
@@ -115,11 +127,13 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
                     }
                     
                     // Update the role
-                    Role role = roleRepository.findById(request.getRoleId())
+                    Role role = referenceDataRegistry.findRole(request.getRoleId())
                             .orElseThrow(() -> new EntityNotFoundException("Role not found with id: " + request.getRoleId()));
                     existingMember.setRole(role);
                     
                     ProjectMember updated = projectMemberRepository.save(existingMember);
+                    projectVersionTracker.touch(List.of(request.getProjectId()));
+                    projectChangeBroadcaster.publish(request.getProjectId(), "member.updated", id);
                     updated.getProject().getName(); // Initialize project
                     updated.getUser().getUsername(); // Initialize user
                     updated.getRole().getName(); // Initialize role
@@ -136,7 +150,7 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + request.getUserId()));
         
-        Role role = roleRepository.findById(request.getRoleId())
+        Role role = referenceDataRegistry.findRole(request.getRoleId())
                 .orElseThrow(() -> new EntityNotFoundException("Role not found with id: " + request.getRoleId()));
 
         ProjectMember projectMember = new ProjectMember();
@@ -144,18 +158,21 @@ public class ProjectMemberServiceImpl implements ProjectMemberService {
         projectMember.setUser(user);
         projectMember.setRole(role);
 
-        return projectMemberRepository.save(projectMember);
+        ProjectMember saved = projectMemberRepository.save(projectMember);
+        projectVersionTracker.touch(List.of(project.getId()));
+        projectChangeBroadcaster.publish(project.getId(), "member.added", saved.getId());
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public String getUserRoleInProject(Long projectId) {
-        User currentUser = securityUtils.getCurrentUser();
-        if (currentUser == null) {
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
             return null;
         }
 
-        return findByProjectIdAndUserId(projectId, currentUser.getId())
+        return projectMemberRepository.findByProjectIdAndUserId(projectId, currentUserId)
                 .map(member -> member.getRole().getName())
                 .orElse(null);
     }
@@ -1,7 +1,7 @@
 package com.projectmanagementtool.backend.service.impl;
 
 import com.projectmanagementtool.backend.model.Role;
-import com.projectmanagementtool.backend.repository.RoleRepository;
+import com.projectmanagementtool.backend.service.ReferenceDataRegistry;
 import com.projectmanagementtool.backend.service.RoleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -12,20 +12,25 @@ import java.util.Optional;
 @Service
 public class RoleServiceImpl implements RoleService {
 
-    private final RoleRepository roleRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public RoleServiceImpl(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Override
     public List<Role> findAll() {
-        return roleRepository.findAll();
+        return referenceDataRegistry.getRoles();
     }
 
     @Override
     public Optional<Role> findById(Long id) {
-        return roleRepository.findById(id);
+        return referenceDataRegistry.findRole(id);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public String getEtag() {
+        return referenceDataRegistry.getRolesEtag();
+    }
+}
\ No newline at end of file
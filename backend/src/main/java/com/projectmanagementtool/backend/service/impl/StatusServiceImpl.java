@@ -1,7 +1,7 @@
 package com.projectmanagementtool.backend.service.impl;
 
 import com.projectmanagementtool.backend.model.Status;
-import com.projectmanagementtool.backend.repository.StatusRepository;
+import com.projectmanagementtool.backend.service.ReferenceDataRegistry;
 import com.projectmanagementtool.backend.service.StatusService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -12,20 +12,25 @@ import java.util.Optional;
 @Service
 public class StatusServiceImpl implements StatusService {
 
-    private final StatusRepository statusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
-    public StatusServiceImpl(StatusRepository statusRepository) {
-        this.statusRepository = statusRepository;
+    public StatusServiceImpl(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Override
     public List<Status> findAll() {
-        return statusRepository.findAll();
+        return referenceDataRegistry.getStatuses();
     }
 
     @Override
     public Optional<Status> findById(Long id) {
-        return statusRepository.findById(id);
+        return referenceDataRegistry.findStatus(id);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public String getEtag() {
+        return referenceDataRegistry.getStatusesEtag();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.projectmanagementtool.backend.service.impl;
+
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.repository.TaskEventRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.service.TaskEventRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Mode par défaut : l'événement est visible dès la fin de la requête (read-your-writes)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "task-events.write-behind.enabled", havingValue = "false", matchIfMissing = true)
+public class SynchronousTaskEventRecorder implements TaskEventRecorder {
+    private final TaskEventRepository taskEventRepository;
+    private final TaskRepository taskRepository;
+
+    @Override
+    public void record(Task task, String description) {
+        taskEventRepository.save(newEvent(task, description, LocalDateTime.now()));
+    }
+
+    @Override
+    public void recordAll(Collection<Long> taskIds, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskEvent> events = taskIds.stream()
+                .map(id -> newEvent(taskRepository.getReferenceById(id), description, now))
+                .collect(Collectors.toList());
+        taskEventRepository.saveAll(events);
+    }
+
+    private TaskEvent newEvent(Task task, String description, LocalDateTime date) {
+        TaskEvent event = new TaskEvent();
+        event.setTask(task);
+        event.setDescription(description);
+        event.setDate(date);
+        return event;
+    }
+}
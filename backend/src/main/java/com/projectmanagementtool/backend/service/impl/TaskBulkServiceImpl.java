@@ -0,0 +1,243 @@
+package com.projectmanagementtool.backend.service.impl;
+
+import com.projectmanagementtool.backend.dto.BulkItemResultDto;
+import com.projectmanagementtool.backend.dto.BulkTaskMoveDto;
+import com.projectmanagementtool.backend.dto.BulkTaskUpdateDto;
+import com.projectmanagementtool.backend.dto.TaskRequestDto;
+import com.projectmanagementtool.backend.exception.InvalidBulkRequestException;
+import com.projectmanagementtool.backend.mapper.TaskMapper;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.ProjectMemberRepository;
+import com.projectmanagementtool.backend.repository.ProjectRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.repository.UserRepository;
+import com.projectmanagementtool.backend.repository.projection.TaskOwnerRow;
+import com.projectmanagementtool.backend.security.SecurityUtils;
+import com.projectmanagementtool.backend.service.ProjectChangeBroadcaster;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
+import com.projectmanagementtool.backend.service.ReferenceDataRegistry;
+import com.projectmanagementtool.backend.service.TaskBulkService;
+import com.projectmanagementtool.backend.service.TaskEventRecorder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskBulkServiceImpl implements TaskBulkService {
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TaskEventRecorder taskEventRecorder;
+    private final SecurityUtils securityUtils;
+    private final Validator validator;
+
+    @Value("${bulk.tasks.max-items:500}")
+    private int maxItems;
+
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> createTasks(List<TaskRequestDto> requests) {
+        checkSize(requests);
+
+        Set<Long> adminProjectIds = adminProjectIds(requests.stream().map(TaskRequestDto::getProjectId));
+        Map<Long, User> assignees = userRepository.findAllById(distinct(requests.stream().map(TaskRequestDto::getAssigneeId)))
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<BulkItemResultDto> results = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequestDto request = requests.get(i);
+            String error = null;
+            if (request.getProjectId() == null || !adminProjectIds.contains(request.getProjectId())) {
+                error = "Only admin can create tasks";
+            } else if (request.getStatusId() == null) {
+                error = "Status is required";
+            } else if (referenceDataRegistry.findStatus(request.getStatusId()).isEmpty()) {
+                error = "Status not found with id: " + request.getStatusId();
+            } else if (request.getAssigneeId() != null && !assignees.containsKey(request.getAssigneeId())) {
+                error = "User not found with id: " + request.getAssigneeId();
+            }
+
+            Task task = null;
+            if (error == null) {
+                task = taskMapper.toEntity(request);
+                task.setProject(projectRepository.getReferenceById(request.getProjectId()));
+                task.setStatus(referenceDataRegistry.findStatus(request.getStatusId()).orElseThrow());
+                task.setAssignee(assignees.get(request.getAssigneeId()));
+                error = validator.validate(task).stream()
+                        .map(ConstraintViolation::getMessage)
+                        .findFirst()
+                        .orElse(null);
+            }
+
+            if (error != null) {
+                results.add(BulkItemResultDto.failed(i, null, error));
+            } else {
+                results.add(null);
+                tasks.add(task);
+                taskIndexes.add(i);
+            }
+        }
+
+        // Les ids poolés sont attribués au persist : les INSERT partent ensuite en batch JDBC
+        List<Task> saved = taskRepository.saveAll(tasks);
+        for (int i = 0; i < saved.size(); i++) {
+            results.set(taskIndexes.get(i), BulkItemResultDto.ok(taskIndexes.get(i), saved.get(i).getId()));
+        }
+        if (!saved.isEmpty()) {
+            taskEventRecorder.recordAll(saved.stream().map(Task::getId).collect(Collectors.toList()), "Task created");
+            Set<Long> touched = saved.stream().map(task -> task.getProject().getId()).collect(Collectors.toSet());
+            projectVersionTracker.touch(touched);
+            touched.forEach(projectId -> projectChangeBroadcaster.publish(projectId, "tasks.changed", null));
+        }
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> updateTasks(BulkTaskUpdateDto request) {
+        checkSize(request.getTaskIds());
+        if (request.getStatusId() == null && request.getPriority() == null
+                && request.getAssigneeId() == null && request.getDueDate() == null) {
+            throw new InvalidBulkRequestException("No change requested");
+        }
+
+        Status status = request.getStatusId() == null ? null : referenceDataRegistry.findStatus(request.getStatusId())
+                .orElseThrow(() -> new InvalidBulkRequestException("Status not found with id: " + request.getStatusId()));
+        User assignee = request.getAssigneeId() == null ? null : userRepository.findById(request.getAssigneeId())
+                .orElseThrow(() -> new InvalidBulkRequestException("User not found with id: " + request.getAssigneeId()));
+
+        Map<Long, Long> projectByTask = projectByTask(request.getTaskIds());
+        Set<Long> adminProjectIds = adminProjectIds(projectByTask.values().stream());
+        List<Long> allowed = allowedTaskIds(request.getTaskIds(), projectByTask, adminProjectIds);
+
+        if (!allowed.isEmpty()) {
+            if (status != null) {
+                taskRepository.updateStatus(allowed, status);
+                taskEventRecorder.recordAll(allowed, "Task status changed to '" + status.getName() + "'");
+            }
+            if (request.getPriority() != null) {
+                taskRepository.updatePriority(allowed, request.getPriority());
+                taskEventRecorder.recordAll(allowed, "Task priority changed to " + request.getPriority());
+            }
+            if (assignee != null) {
+                taskRepository.updateAssignee(allowed, assignee);
+                taskEventRecorder.recordAll(allowed, "Task assigned to " + assignee.getUsername());
+            }
+            if (request.getDueDate() != null) {
+                taskRepository.updateDueDate(allowed, request.getDueDate());
+                taskEventRecorder.recordAll(allowed, "Task due date changed to " + request.getDueDate());
+            }
+            Set<Long> touched = allowed.stream().map(projectByTask::get).collect(Collectors.toSet());
+            projectVersionTracker.touch(touched);
+            touched.forEach(projectId -> projectChangeBroadcaster.publish(projectId, "tasks.changed", null));
+        }
+
+        return results(request.getTaskIds(), projectByTask, adminProjectIds, "Only admin can update tasks");
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> moveTasks(BulkTaskMoveDto request) {
+        checkSize(request.getTaskIds());
+        if (request.getTargetProjectId() == null) {
+            throw new InvalidBulkRequestException("Target project is required");
+        }
+
+        Map<Long, Long> projectByTask = projectByTask(request.getTaskIds());
+        Set<Long> projectIds = new HashSet<>(projectByTask.values());
+        projectIds.add(request.getTargetProjectId());
+        Set<Long> adminProjectIds = adminProjectIds(projectIds.stream());
+
+        // Il faut être Admin du projet d'origine et du projet cible
+        if (!adminProjectIds.contains(request.getTargetProjectId())) {
+            adminProjectIds = Set.of();
+        }
+        List<Long> allowed = allowedTaskIds(request.getTaskIds(), projectByTask, adminProjectIds);
+
+        if (!allowed.isEmpty()) {
+            Project target = projectRepository.getReferenceById(request.getTargetProjectId());
+            String targetName = target.getName();
+            taskRepository.moveToProject(allowed, target);
+            taskEventRecorder.recordAll(allowed, "Task moved to project '" + targetName + "'");
+            Set<Long> touched = allowed.stream().map(projectByTask::get).collect(Collectors.toSet());
+            touched.add(request.getTargetProjectId());
+            projectVersionTracker.touch(touched);
+            touched.forEach(projectId -> projectChangeBroadcaster.publish(projectId, "tasks.changed", null));
+        }
+
+        return results(request.getTaskIds(), projectByTask, adminProjectIds, "Only admin of both projects can move tasks");
+    }
+
+    private void checkSize(Collection<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidBulkRequestException("At least one item is required");
+        }
+        if (items.size() > maxItems) {
+            throw new InvalidBulkRequestException("At most " + maxItems + " items are allowed per request");
+        }
+    }
+
+    private Set<Long> adminProjectIds(Stream<Long> projectIds) {
+        List<Long> ids = distinct(projectIds);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(projectMemberRepository.findAdminProjectIds(securityUtils.getCurrentUserId(), ids));
+    }
+
+    private Map<Long, Long> projectByTask(List<Long> taskIds) {
+        return taskRepository.findOwnerRowsByIdIn(distinct(taskIds.stream())).stream()
+                .collect(Collectors.toMap(TaskOwnerRow::getTaskId, TaskOwnerRow::getProjectId));
+    }
+
+    private List<Long> allowedTaskIds(List<Long> taskIds, Map<Long, Long> projectByTask, Set<Long> adminProjectIds) {
+        return distinct(taskIds.stream()
+                .filter(id -> projectByTask.containsKey(id) && adminProjectIds.contains(projectByTask.get(id))));
+    }
+
+    private List<BulkItemResultDto> results(List<Long> taskIds, Map<Long, Long> projectByTask,
+                                            Set<Long> adminProjectIds, String forbidden) {
+        List<BulkItemResultDto> results = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            Long taskId = taskIds.get(i);
+            if (!projectByTask.containsKey(taskId)) {
+                results.add(BulkItemResultDto.failed(i, taskId, "Task not found with id: " + taskId));
+            } else if (!adminProjectIds.contains(projectByTask.get(taskId))) {
+                results.add(BulkItemResultDto.failed(i, taskId, forbidden));
+            } else {
+                results.add(BulkItemResultDto.ok(i, taskId));
+            }
+        }
+        return results;
+    }
+
+    private static List<Long> distinct(Stream<Long> ids) {
+        return new ArrayList<>(ids.filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+}
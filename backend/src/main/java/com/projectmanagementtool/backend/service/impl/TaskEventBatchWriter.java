@@ -0,0 +1,39 @@
+package com.projectmanagementtool.backend.service.impl;
+
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Écrit un lot dans sa propre transaction. Les ids viennent du générateur poolé, ce qui
+// permet à Hibernate d'envoyer les INSERT en batch JDBC (hibernate.jdbc.batch_size).
+@Component
+@ConditionalOnProperty(name = "task-events.write-behind.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TaskEventBatchWriter {
+    private final ProjectVersionTracker projectVersionTracker;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertAll(List<PendingTaskEvent> events) {
+        for (PendingTaskEvent pending : events) {
+            TaskEvent event = new TaskEvent();
+            event.setTask(entityManager.getReference(Task.class, pending.taskId()));
+            event.setDescription(pending.description());
+            event.setDate(pending.date());
+            entityManager.persist(event);
+        }
+        // Les événements arrivent après la réponse : les ETag des projets concernés doivent changer à ce moment-là
+        projectVersionTracker.touchProjectsOfTasks(events.stream().map(PendingTaskEvent::taskId).distinct().toList());
+    }
+}
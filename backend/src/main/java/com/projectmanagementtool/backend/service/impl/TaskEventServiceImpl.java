@@ -6,22 +6,32 @@ import com.projectmanagementtool.backend.model.Task;
 import com.projectmanagementtool.backend.model.TaskEvent;
 import com.projectmanagementtool.backend.repository.TaskEventRepository;
 import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
 import com.projectmanagementtool.backend.service.TaskEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TaskEventServiceImpl implements TaskEventService {
+    // Keeps each IN list well below the bind-parameter limits of MySQL and H2
+    private static final int HISTORY_BATCH_SIZE = 1000;
+
     private final TaskEventRepository taskEventRepository;
     private final TaskRepository taskRepository;
     private final TaskEventMapper taskEventMapper;
+    private final ProjectVersionTracker projectVersionTracker;
 
     @Override
     @Transactional(readOnly = true)
@@ -31,6 +41,29 @@ public class TaskEventServiceImpl implements TaskEventService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, List<TaskEventDto>> getTaskEventsByTaskIds(Collection<Long> taskIds) {
+        Map<Long, List<TaskEventDto>> historyByTaskId = new HashMap<>();
+        if (taskIds == null || taskIds.isEmpty()) {
+            return historyByTaskId;
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        for (Long id : ids) {
+            historyByTaskId.put(id, new ArrayList<>());
+        }
+
+        for (int from = 0; from < ids.size(); from += HISTORY_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + HISTORY_BATCH_SIZE, ids.size()));
+            for (TaskEvent event : taskEventRepository.findByTaskIdIn(chunk)) {
+                TaskEventDto dto = taskEventMapper.toDto(event);
+                historyByTaskId.get(dto.getTaskId()).add(dto);
+            }
+        }
+        return historyByTaskId;
+    }
+
     @Override
     @Transactional
     public TaskEventDto createTaskEvent(Long taskId, String description) {
@@ -43,6 +76,7 @@ public class TaskEventServiceImpl implements TaskEventService {
         event.setDate(LocalDateTime.now());
 
         TaskEvent savedEvent = taskEventRepository.save(event);
+        projectVersionTracker.touch(List.of(task.getProject().getId()));
         return taskEventMapper.toDto(savedEvent);
     }
 
@@ -51,6 +85,7 @@ public class TaskEventServiceImpl implements TaskEventService {
     public void deleteTaskEvents(Long taskId) {
         List<TaskEvent> events = taskEventRepository.findByTaskId(taskId);
         taskEventRepository.deleteAll(events);
+        projectVersionTracker.touchProjectsOfTasks(List.of(taskId));
     }
 
     @Override
@@ -68,13 +103,18 @@ public class TaskEventServiceImpl implements TaskEventService {
     @Override
     @Transactional
     public TaskEvent save(TaskEvent taskEvent) {
-        return taskEventRepository.save(taskEvent);
+        TaskEvent saved = taskEventRepository.save(taskEvent);
+        projectVersionTracker.touchProjectsOfTasks(List.of(saved.getTask().getId()));
+        return saved;
     }
 
     @Override
     @Transactional
     public void deleteById(Long id) {
-        taskEventRepository.deleteById(id);
+        taskEventRepository.findById(id).ifPresent(event -> {
+            taskEventRepository.delete(event);
+            projectVersionTracker.touchProjectsOfTasks(List.of(event.getTask().getId()));
+        });
     }
 
     @Override
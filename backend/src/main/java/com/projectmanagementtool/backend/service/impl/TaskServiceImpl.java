@@ -1,5 +1,6 @@
 package com.projectmanagementtool.backend.service.impl;
 
+import com.projectmanagementtool.backend.dto.CursorPageDto;
 import com.projectmanagementtool.backend.dto.TaskDto;
 import com.projectmanagementtool.backend.dto.TaskRequestDto;
 import com.projectmanagementtool.backend.dto.TaskDetailsDto;
@@ -11,22 +12,27 @@ import com.projectmanagementtool.backend.mapper.TaskMapper;
 import com.projectmanagementtool.backend.mapper.ProjectMemberMapper;
 import com.projectmanagementtool.backend.model.Project;
 import com.projectmanagementtool.backend.model.Task;
-import com.projectmanagementtool.backend.model.TaskEvent;
 import com.projectmanagementtool.backend.model.ProjectMember;
 import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.pagination.TaskCursor;
+import com.projectmanagementtool.backend.pagination.TaskSort;
 import com.projectmanagementtool.backend.repository.ProjectRepository;
-import com.projectmanagementtool.backend.repository.TaskEventRepository;
 import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
 import com.projectmanagementtool.backend.security.SecurityUtils;
+import com.projectmanagementtool.backend.service.ProjectChangeBroadcaster;
+import com.projectmanagementtool.backend.service.ProjectVersionTracker;
 import com.projectmanagementtool.backend.service.TaskService;
+import com.projectmanagementtool.backend.service.TaskEventRecorder;
 import com.projectmanagementtool.backend.service.TaskEventService;
 import com.projectmanagementtool.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,86 +42,67 @@ public class TaskServiceImpl implements TaskService {
     private final TaskMapper taskMapper;
     private final SecurityUtils securityUtils;
     private final ProjectRepository projectRepository;
-    private final TaskEventRepository taskEventRepository;
+    private final TaskEventRecorder taskEventRecorder;
     private final UserService userService;
     private final ProjectMemberMapper projectMemberMapper;
     private final TaskEventService taskEventService;
+    private final ProjectVersionTracker projectVersionTracker;
+    private final ProjectChangeBroadcaster projectChangeBroadcaster;
+
+    @Value("${pagination.tasks.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.tasks.max-size:200}")
+    private int maxPageSize;
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDto> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(task -> {
-                    String myRole = getMyRole(task.getProject());
-                    if (myRole == null) {
-                        return null;
-                    }
-                    
-                    // Check if status exists
-                    if (task.getStatus() == null) {
-                        return null;
-                    }
-                    
-                    // Check if project exists
-                    if (task.getProject() == null) {
-                        return null;
-                    }
-                    
-                    TaskDto dto = taskMapper.toDto(task, myRole);
-                    if (dto != null) {
-                        // Set task history
-                        dto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-                    }
-                    
-                    return dto;
-                })
-                .filter(task -> task != null)
-                .collect(Collectors.toList());
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            return List.of();
+        }
+
+        return toDtosWithHistory(taskRepository.findTaskRowsVisibleToUser(currentUserId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDto> getTasksByProjectId(Long projectId) {
-        return taskRepository.findByProjectId(projectId).stream()
-                .map(task -> {
-                    String myRole = getMyRole(task.getProject());
-                    TaskDto dto = taskMapper.toDto(task, myRole);
-                    if (dto != null) {
-                        dto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtosWithHistory(taskRepository.findTaskRowsByProjectId(projectId, securityUtils.getCurrentUserId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDto> getTasksByAssigneeId(Long assigneeId) {
-        return taskRepository.findByAssigneeId(assigneeId).stream()
-                .map(task -> {
-                    String myRole = getMyRole(task.getProject());
-                    TaskDto dto = taskMapper.toDto(task, myRole);
-                    if (dto != null) {
-                        dto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtosWithHistory(taskRepository.findTaskRowsByAssigneeId(assigneeId, securityUtils.getCurrentUserId()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDto> getTasksByProjectIdAndStatusId(Long projectId, Long statusId) {
-        return taskRepository.findByProjectIdAndStatusId(projectId, statusId).stream()
-                .map(task -> {
-                    String myRole = getMyRole(task.getProject());
-                    TaskDto dto = taskMapper.toDto(task, myRole);
-                    if (dto != null) {
-                        dto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
+        return toDtosWithHistory(taskRepository.findTaskRowsByProjectIdAndStatusId(
+                projectId, statusId, securityUtils.getCurrentUserId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<TaskDto> getTasksPage(Long projectId, Long assigneeId, Long statusId,
+                                               String sort, String cursor, Integer size) {
+        TaskSort taskSort = TaskSort.fromParam(sort);
+        TaskCursor after = TaskCursor.decode(cursor, taskSort);
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        // Une ligne de plus que la page pour savoir s'il reste des tâches sans requête de comptage
+        List<TaskRow> rows = taskRepository.findPage(securityUtils.getCurrentUserId(),
+                projectId, assigneeId, statusId, taskSort, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = hasMore ? TaskCursor.after(rows.get(rows.size() - 1), taskSort).encode() : null;
+        return new CursorPageDto<>(toDtosWithHistory(rows), nextCursor, hasMore);
     }
 
     @Override
@@ -129,11 +116,7 @@ public class TaskServiceImpl implements TaskService {
             return null;
         }
 
-        TaskDto dto = taskMapper.toDto(task, myRole);
-        if (dto != null) {
-            dto.setTaskHistory(taskEventService.getTaskEvents(task.getId()));
-        }
-        return dto;
+        return taskMapper.toDto(task, myRole, taskEventService.getTaskEvents(task.getId()));
     }
 
     @Override
@@ -209,15 +192,11 @@ public class TaskServiceImpl implements TaskService {
                 .ifPresent(task::setAssignee);
         }
         
-        // Create task event for creation
-        TaskEvent event = new TaskEvent();
-        event.setTask(task);
-        event.setDescription("Task created");
-        event.setDate(LocalDateTime.now());
-        
-        // Save task and event
+        // Save task and log its creation
         Task savedTask = taskRepository.save(task);
-        taskEventRepository.save(event);
+        taskEventRecorder.record(savedTask, "Task created");
+        projectVersionTracker.touch(List.of(project.getId()));
+        projectChangeBroadcaster.publish(project.getId(), "task.created", savedTask.getId());
         
         return getTask(savedTask.getId());
     }
@@ -257,6 +236,8 @@ public class TaskServiceImpl implements TaskService {
         // ... autres mises à jour
         
         Task updatedTask = taskRepository.save(task);
+        projectVersionTracker.touch(List.of(updatedTask.getProject().getId()));
+        projectChangeBroadcaster.publish(updatedTask.getProject().getId(), "task.updated", updatedTask.getId());
         return getTask(updatedTask.getId());
     }
 
@@ -272,6 +253,8 @@ public class TaskServiceImpl implements TaskService {
         }
         
         taskRepository.delete(task);
+        projectVersionTracker.touch(List.of(task.getProject().getId()));
+        projectChangeBroadcaster.publish(task.getProject().getId(), "task.deleted", id);
         return true;
     }
 
@@ -283,20 +266,26 @@ public class TaskServiceImpl implements TaskService {
         return project.getMembers();
     }
     
+    // Charge l'historique de toutes les tâches en lot puis mappe chaque ligne une seule fois
+    private List<TaskDto> toDtosWithHistory(List<TaskRow> rows) {
+        Map<Long, List<TaskEventDto>> taskHistories = taskEventService.getTaskEventsByTaskIds(
+                rows.stream().map(TaskRow::getId).collect(Collectors.toList()));
+
+        return rows.stream()
+                .map(row -> taskMapper.toDto(row, taskHistories.get(row.getId())))
+                .collect(Collectors.toList());
+    }
+
     private void createTaskEvent(Task task, String description) {
-        TaskEvent event = new TaskEvent();
-        event.setTask(task);
-        event.setDescription(description);
-        event.setDate(LocalDateTime.now());
-        taskEventRepository.save(event);
+        taskEventRecorder.record(task, description);
     }
     
     private String getMyRole(Project project) {
-        User currentUser = securityUtils.getCurrentUser();
-        if (project == null || currentUser == null) return null;
+        Long currentUserId = securityUtils.getCurrentUserId();
+        if (project == null || currentUserId == null) return null;
         
         return project.getMembers().stream()
-                .filter(member -> member.getUser().getId().equals(currentUser.getId()))
+                .filter(member -> member.getUser().getId().equals(currentUserId))
                 .map(member -> member.getRole().getName())
                 .findFirst()
                 .orElse(null);
@@ -0,0 +1,181 @@
+package com.projectmanagementtool.backend.service.impl;
+
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.service.TaskEventRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// File bornée vidée par un thread d'écriture : un lot d'INSERT en batch JDBC, déclenché
+// dès que batch-size événements sont en attente ou que flush-interval-ms est écoulé.
+// Les événements ne sont mis en file qu'après le commit de la requête, sinon la tâche
+// référencée pourrait ne pas encore exister. File pleine : écriture directe, rien n'est perdu.
+@Component
+@ConditionalOnProperty(name = "task-events.write-behind.enabled", havingValue = "true")
+public class WriteBehindTaskEventRecorder implements TaskEventRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindTaskEventRecorder.class);
+
+    private final TaskEventBatchWriter batchWriter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${task-events.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${task-events.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${task-events.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private BlockingQueue<PendingTaskEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter overflowCounter;
+    private Counter failedCounter;
+
+    public WriteBehindTaskEventRecorder(TaskEventBatchWriter batchWriter, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.batchWriter = batchWriter;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("task.events.queue.depth", queue, BlockingQueue::size)
+                .description("Task events waiting for the write-behind flush")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("task.events.flush")
+                .description("Duration of one batched task event insert")
+                .register(meterRegistry);
+        overflowCounter = Counter.builder("task.events.overflow")
+                .description("Task events written synchronously because the queue was full")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("task.events.failed")
+                .description("Task events that could not be persisted")
+                .register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::drainLoop, "task-event-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void record(Task task, String description) {
+        afterCommit(List.of(new PendingTaskEvent(task.getId(), description, LocalDateTime.now())));
+    }
+
+    @Override
+    public void recordAll(Collection<Long> taskIds, String description) {
+        LocalDateTime now = LocalDateTime.now();
+        afterCommit(taskIds.stream()
+                .map(id -> new PendingTaskEvent(id, description, now))
+                .collect(Collectors.toList()));
+    }
+
+    private void afterCommit(List<PendingTaskEvent> events) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.forEach(WriteBehindTaskEventRecorder.this::enqueue);
+                }
+            });
+        } else {
+            events.forEach(this::enqueue);
+        }
+    }
+
+    // Vide la file et écrit les derniers lots avant la fermeture de la DataSource
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(flushIntervalMs * 2 + 5_000);
+
+        List<PendingTaskEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    private void enqueue(PendingTaskEvent event) {
+        if (!running || !queue.offer(event)) {
+            overflowCounter.increment();
+            flush(List.of(event));
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingTaskEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingTaskEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingTaskEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    private void flush(List<PendingTaskEvent> batch) {
+        try {
+            flushTimer.record(() -> batchWriter.insertAll(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failedCounter.increment();
+                logger.error("Dropping task event for task {}: {}", batch.get(0).taskId(), e.getMessage());
+                return;
+            }
+            // Une ligne invalide (tâche supprimée entre-temps) ne doit pas faire perdre tout le lot
+            logger.warn("Batch insert of {} task events failed, retrying one by one", batch.size());
+            batch.forEach(event -> flush(List.of(event)));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+-- Index composites pour la pagination par curseur des tâches (tri, id)
+-- InnoDB ajoute implicitement la clé primaire à chaque index secondaire
+CREATE INDEX idx_tasks_project_priority ON tasks(project_id, priority);
+CREATE INDEX idx_tasks_project_due_date ON tasks(project_id, due_date);
+CREATE INDEX idx_tasks_assignee_priority ON tasks(assignee_id, priority);
+CREATE INDEX idx_tasks_assignee_due_date ON tasks(assignee_id, due_date);
+CREATE INDEX idx_tasks_project_status ON tasks(project_id, status_id);
@@ -0,0 +1,12 @@
+-- Séquences des générateurs d'id poolés (allocationSize = 50, cf. IdSequences)
+-- Hibernate réserve les ids (next_val - 49 .. next_val) à chaque lecture :
+-- MAX(id) + 51 garantit que le premier bloc commence au-delà des lignes existantes
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'projects', COALESCE(MAX(id), 0) + 51 FROM projects;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'project_members', COALESCE(MAX(id), 0) + 51 FROM project_members;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'tasks', COALESCE(MAX(id), 0) + 51 FROM tasks;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'task_events', COALESCE(MAX(id), 0) + 51 FROM task_events;
@@ -0,0 +1,3 @@
+-- Version agrégée par projet (ETag des lectures de projet) et verrou optimiste des tâches
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Refresh tokens : seule l'empreinte SHA-256 du jeton est stockée.
+-- Une famille par login ; chaque rotation révoque le jeton présenté et en émet un nouveau dans la famille.
+CREATE TABLE refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family VARCHAR(36) NOT NULL,
+    expires_at DATETIME NOT NULL,
+    revoked_at DATETIME NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family);
@@ -0,0 +1,428 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.projectmanagementtool.backend.ProjectManagementToolApplication;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.model.User;
+import jakarta.persistence.EntityManager;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Charge HTTP de bout en bout sur l'API réelle : l'application démarre sur H2 en mode MySQL, les
+// utilisateurs virtuels se connectent par /api/auth/login puis un mélange de lectures et d'écritures
+// est envoyé à débit d'arrivée fixe (modèle ouvert). La latence est comptée depuis l'instant prévu
+// d'envoi, pas depuis l'envoi effectif : un serveur qui ralentit ne fait pas disparaître l'attente
+// (coordinated omission). Une exécution par taille de jeu de données pour faire ressortir les N+1.
+// Réglages : -Dbench.load.rate=200 -Dbench.load.duration-seconds=30 -Dbench.load.warmup-seconds=5
+//            -Dbench.load.users=20 -Dbench.load.projects=10 -Dbench.load.tasks-per-project=50,500
+//            -Dbench.load.label=latest -Dbench.load.baseline=target/load-reports/reference.json
+//            -Dbench.load.server-timing=true (moyennes par phase de l'en-tête Server-Timing)
+// Rapport : target/load-reports/<label>.json (+ distributions .hgrm), comparé à la baseline si fournie
+// Exclu du build par défaut : mvn -Pbenchmark test -Dtest=HttpLoadBenchmark
+@Tag("benchmark")
+class HttpLoadBenchmark {
+    private static final int RATE = Integer.getInteger("bench.load.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("bench.load.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("bench.load.warmup-seconds", 5);
+    private static final int USERS = Integer.getInteger("bench.load.users", 20);
+    private static final int PROJECTS = Integer.getInteger("bench.load.projects", 10);
+    private static final String DATASETS = System.getProperty("bench.load.tasks-per-project", "50,500");
+    private static final String LABEL = System.getProperty("bench.load.label", "latest");
+    private static final String BASELINE = System.getProperty("bench.load.baseline");
+    private static final boolean SERVER_TIMING = Boolean.getBoolean("bench.load.server-timing");
+    private static final List<String> TIMING_PHASES = List.of("auth", "db", "mapping", "json", "total");
+    private static final int EVENTS_PER_TASK = 3;
+    private static final String PASSWORD = "load-password";
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final File reportDir = new File("target/load-reports");
+
+    @Test
+    void runScenarios() throws Exception {
+        Map<String, EndpointReport> report = new LinkedHashMap<>();
+        for (String size : DATASETS.split(",")) {
+            int tasksPerProject = Integer.parseInt(size.trim());
+            run(tasksPerProject).forEach((name, endpoint) ->
+                    report.put("tasks=" + tasksPerProject + " " + name, EndpointReport.of(endpoint)));
+        }
+
+        reportDir.mkdirs();
+        objectMapper.writeValue(new File(reportDir, LABEL + ".json"), report);
+        Map<String, EndpointReport> baseline = BASELINE != null
+                ? objectMapper.readValue(new File(BASELINE), objectMapper.getTypeFactory()
+                        .constructMapType(LinkedHashMap.class, String.class, EndpointReport.class))
+                : Map.of();
+        print(report, baseline);
+    }
+
+    private Map<String, Endpoint> run(int tasksPerProject) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectManagementToolApplication.class)
+                .run("--spring.profiles.active=test",
+                        "--spring.datasource.url=jdbc:h2:mem:load" + tasksPerProject
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.projectmanagementtool=WARN",
+                        "--server-timing.enabled=" + SERVER_TIMING)) {
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            Dataset dataset = seed(context, tasksPerProject);
+            ExecutorService clientThreads = Executors.newCachedThreadPool();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            try {
+                Map<String, Endpoint> endpoints = endpoints();
+                List<String> tokens = login(client, base, dataset, endpoints.get("POST /api/auth/login"));
+
+                drive(client, base, dataset, tokens, endpoints, WARMUP_SECONDS);
+                // Le login, mesuré une seule fois, n'est pas remis à zéro avec l'échauffement
+                endpoints.values().stream().filter(endpoint -> endpoint.weight() > 0).forEach(Endpoint::reset);
+                drive(client, base, dataset, tokens, endpoints, DURATION_SECONDS);
+                writeDistributions(tasksPerProject, endpoints);
+                return endpoints;
+            } finally {
+                clientThreads.shutdownNow();
+            }
+        }
+    }
+
+    // Mélange pondéré des parcours du frontend ; le login n'est mesuré qu'à la connexion des utilisateurs
+    private Map<String, Endpoint> endpoints() {
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        endpoints.put("POST /api/auth/login", new Endpoint(0, null));
+        endpoints.put("GET /api/projects", new Endpoint(20, (base, data, random) ->
+                get(base + "/api/projects")));
+        endpoints.put("GET /api/projects/{id}/details", new Endpoint(20, (base, data, random) ->
+                get(base + "/api/projects/" + data.randomProject(random) + "/details")));
+        endpoints.put("GET /api/tasks/project/{id}", new Endpoint(20, (base, data, random) ->
+                get(base + "/api/tasks/project/" + data.randomProject(random))));
+        endpoints.put("GET /api/tasks/project/{id}/page", new Endpoint(15, (base, data, random) ->
+                get(base + "/api/tasks/project/" + data.randomProject(random) + "/page")));
+        endpoints.put("PATCH /api/tasks/{id}", new Endpoint(15, (base, data, random) ->
+                json(base + "/api/tasks/" + data.randomTask(random), "PATCH",
+                        "{\"priority\":" + random.nextInt(5) + "}")));
+        endpoints.put("POST /api/tasks/{id}/events", new Endpoint(10, (base, data, random) ->
+                json(base + "/api/tasks/" + data.randomTask(random) + "/events", "POST",
+                        "{\"description\":\"Load test event\"}")));
+        return endpoints;
+    }
+
+    private List<String> login(HttpClient client, String base, Dataset dataset, Endpoint endpoint) throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (String email : dataset.emails()) {
+            HttpRequest request = json(base + "/api/auth/login", "POST",
+                    "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}").build();
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            endpoint.record(start, response.statusCode());
+            response.headers().firstValue("Server-Timing").ifPresent(endpoint.timings()::add);
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + email + ": " + response.body());
+            }
+            JsonNode body = objectMapper.readTree(response.body());
+            tokens.add(body.get("token").asText());
+        }
+        return tokens;
+    }
+
+    // Un envoi toutes les 1/RATE secondes quel que soit le temps de réponse ; un retard de
+    // l'ordonnanceur est rattrapé en envoyant aussitôt, l'instant prévu restant la référence
+    private void drive(HttpClient client, String base, Dataset dataset, List<String> tokens,
+                       Map<String, Endpoint> endpoints, int seconds) throws Exception {
+        Random random = new Random(42);
+        List<Endpoint> weighted = new ArrayList<>();
+        endpoints.values().forEach(endpoint -> {
+            for (int i = 0; i < endpoint.weight(); i++) {
+                weighted.add(endpoint);
+            }
+        });
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long total = (long) RATE * seconds;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = weighted.get(random.nextInt(weighted.size()));
+            HttpRequest request = endpoint.request().build(base, dataset, random)
+                    .header("Authorization", "Bearer " + tokens.get(random.nextInt(tokens.size())))
+                    .build();
+            // Un échec réseau est compté comme erreur de l'endpoint, jamais propagé
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        endpoint.record(intended, error == null ? response.statusCode() : -1);
+                        if (error == null) {
+                            response.headers().firstValue("Server-Timing").ifPresent(endpoint.timings()::add);
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(2, TimeUnit.MINUTES);
+    }
+
+    private Dataset seed(ConfigurableApplicationContext context, int tasksPerProject) {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        return transactionTemplate.execute(tx -> {
+            Status[] statuses = Arrays.stream(new String[]{"To Do", "In Progress", "Done"}).map(name -> {
+                Status status = new Status();
+                status.setName(name);
+                entityManager.persist(status);
+                return status;
+            }).toArray(Status[]::new);
+            Role admin = new Role();
+            admin.setName("Admin");
+            entityManager.persist(admin);
+
+            List<User> users = new ArrayList<>();
+            for (int u = 0; u < USERS; u++) {
+                User user = new User();
+                user.setUsername("load" + u);
+                user.setEmail("load" + u + "@example.com");
+                user.setPassword(password);
+                entityManager.persist(user);
+                users.add(user);
+            }
+
+            List<Long> projectIds = new ArrayList<>();
+            List<List<Long>> taskIds = new ArrayList<>();
+            for (int p = 0; p < PROJECTS; p++) {
+                Project project = new Project();
+                project.setName("Load project " + p);
+                project.setStartDate(LocalDate.now());
+                project.setStatus(statuses[p % statuses.length]);
+                entityManager.persist(project);
+                // Tous administrateurs pour que les écritures du mélange soient autorisées
+                for (User user : users) {
+                    ProjectMember member = new ProjectMember();
+                    member.setProject(project);
+                    member.setUser(user);
+                    member.setRole(admin);
+                    entityManager.persist(member);
+                }
+
+                List<Long> ids = new ArrayList<>();
+                for (int t = 0; t < tasksPerProject; t++) {
+                    Task task = new Task();
+                    task.setName("Task " + t);
+                    task.setProject(project);
+                    task.setStatus(statuses[t % statuses.length]);
+                    task.setPriority(t % 5);
+                    task.setAssignee(users.get(t % users.size()));
+                    task.setDueDate(LocalDate.now().plusDays(t % 30));
+                    entityManager.persist(task);
+                    for (int e = 0; e < EVENTS_PER_TASK; e++) {
+                        TaskEvent event = new TaskEvent();
+                        event.setTask(task);
+                        event.setDescription("Event " + e);
+                        event.setDate(LocalDateTime.now());
+                        entityManager.persist(event);
+                    }
+                    ids.add(task.getId());
+                }
+                projectIds.add(project.getId());
+                taskIds.add(ids);
+                if (p % 2 == 1) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    users.replaceAll(user -> entityManager.getReference(User.class, user.getId()));
+                    admin = entityManager.getReference(Role.class, admin.getId());
+                    for (int s = 0; s < statuses.length; s++) {
+                        statuses[s] = entityManager.getReference(Status.class, statuses[s].getId());
+                    }
+                }
+            }
+            return new Dataset(users.stream().map(User::getEmail).toList(), projectIds, taskIds);
+        });
+    }
+
+    private void writeDistributions(int tasksPerProject, Map<String, Endpoint> endpoints) throws IOException {
+        File dir = new File(reportDir, LABEL);
+        dir.mkdirs();
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            String name = "tasks-" + tasksPerProject + "-" + entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (PrintStream out = new PrintStream(new File(dir, name))) {
+                // Valeurs en microsecondes, affichées en millisecondes
+                entry.getValue().latencies().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private void print(Map<String, EndpointReport> report, Map<String, EndpointReport> baseline) {
+        System.out.printf("%n%d req/s for %ds, %d users, %d projects, label %s%s%n", RATE, DURATION_SECONDS,
+                USERS, PROJECTS, LABEL, BASELINE != null ? ", baseline " + BASELINE : "");
+        System.out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s %10s%n", "scenario", "count", "errors",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "p99 delta");
+        report.forEach((scenario, result) -> {
+            EndpointReport before = baseline.get(scenario);
+            String delta = before == null || before.p99Millis() == 0 ? "-"
+                    : String.format("%+.1f%%", (result.p99Millis() - before.p99Millis()) * 100 / before.p99Millis());
+            System.out.printf("%-48s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %10s%n", scenario, result.count(),
+                    result.errors(), result.p50Millis(), result.p90Millis(), result.p99Millis(),
+                    result.p999Millis(), result.maxMillis(), delta);
+        });
+
+        if (SERVER_TIMING) {
+            System.out.printf("%nServer-Timing, mean per request (ms, queries)%n%-48s", "scenario");
+            TIMING_PHASES.forEach(phase -> System.out.printf(" %9s", phase));
+            System.out.printf(" %9s%n", "queries");
+            report.forEach((scenario, result) -> {
+                if (result.serverTiming() == null || result.serverTiming().isEmpty()) {
+                    return;
+                }
+                System.out.printf("%-48s", scenario);
+                TIMING_PHASES.forEach(phase -> System.out.printf(" %9.2f", result.serverTiming().getOrDefault(phase, 0.0)));
+                System.out.printf(" %9.1f%n", result.serverTiming().getOrDefault("queries", 0.0));
+            });
+        }
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60)).GET();
+    }
+
+    private static HttpRequest.Builder json(String url, String method, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest.Builder build(String base, Dataset dataset, Random random);
+    }
+
+    private record Endpoint(int weight, RequestFactory request, Histogram latencies, AtomicLong errors,
+                            ServerTimingTotals timings) {
+        Endpoint(int weight, RequestFactory request) {
+            this(weight, request, new ConcurrentHistogram(HIGHEST_MICROS, 3), new AtomicLong(), new ServerTimingTotals());
+        }
+
+        void record(long intendedNanos, int status) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+            latencies.recordValue(Math.min(micros, HIGHEST_MICROS));
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            latencies.reset();
+            errors.set(0);
+            timings.reset();
+        }
+    }
+
+    // Sommes des durées par phase de "auth;dur=0.12, db;dur=1.30;desc=\"4 queries\", ..., total;dur=2.10"
+    private static final class ServerTimingTotals {
+        private final Map<String, DoubleAdder> sums = new ConcurrentHashMap<>();
+        private final LongAdder responses = new LongAdder();
+
+        void add(String header) {
+            responses.increment();
+            for (String metric : header.split(",")) {
+                String[] parts = metric.trim().split(";");
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].startsWith("dur=")) {
+                        sum(parts[0]).add(Double.parseDouble(parts[i].substring(4)));
+                    } else if (parts[i].startsWith("desc=\"") && parts[i].endsWith(" queries\"")) {
+                        sum("queries").add(Double.parseDouble(parts[i].substring(6, parts[i].indexOf(' '))));
+                    }
+                }
+            }
+        }
+
+        Map<String, Double> means() {
+            long count = responses.sum();
+            Map<String, Double> means = new LinkedHashMap<>();
+            if (count > 0) {
+                sums.forEach((name, sum) -> means.put(name, sum.sum() / count));
+            }
+            return means;
+        }
+
+        void reset() {
+            sums.clear();
+            responses.reset();
+        }
+
+        private DoubleAdder sum(String name) {
+            return sums.computeIfAbsent(name, key -> new DoubleAdder());
+        }
+    }
+
+    private record Dataset(List<String> emails, List<Long> projectIds, List<List<Long>> taskIds) {
+        long randomProject(Random random) {
+            return projectIds.get(random.nextInt(projectIds.size()));
+        }
+
+        long randomTask(Random random) {
+            List<Long> tasks = taskIds.get(random.nextInt(taskIds.size()));
+            return tasks.get(random.nextInt(tasks.size()));
+        }
+    }
+
+    // Forme sérialisée du rapport, relue comme baseline d'une exécution suivante
+    record EndpointReport(long count, long errors, double p50Millis, double p90Millis, double p99Millis,
+                          double p999Millis, double maxMillis, Map<String, Double> serverTiming) {
+        static EndpointReport of(Endpoint endpoint) {
+            Histogram histogram = endpoint.latencies();
+            return new EndpointReport(histogram.getTotalCount(), endpoint.errors().get(),
+                    histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0, SERVER_TIMING ? endpoint.timings().means() : null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.Status;
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Réplique de Task avec l'ancienne stratégie IDENTITY, utilisée comme point de comparaison
+@Data
+@Entity
+@Table(name = "bench_identity_tasks")
+public class IdentityTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "status_id", nullable = false)
+    private Status status;
+
+    private String name;
+
+    private Integer priority;
+}
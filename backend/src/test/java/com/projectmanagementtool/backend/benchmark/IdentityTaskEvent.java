@@ -0,0 +1,26 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.projectmanagementtool.backend.model.Task;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Réplique de TaskEvent avec l'ancienne stratégie IDENTITY, utilisée comme point de comparaison
+@Data
+@Entity
+@Table(name = "bench_identity_task_events")
+public class IdentityTaskEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime date;
+}
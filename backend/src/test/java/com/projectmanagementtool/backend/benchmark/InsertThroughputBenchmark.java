@@ -0,0 +1,147 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Débit d'insertion IDENTITY (avant) contre ids poolés + batch JDBC (après).
+// Exclu du build par défaut : mvn -Pbenchmark test
+// H2 en mémoire n'a pas de latence réseau : l'écart de débit n'apparaît que sur MySQL
+// (-Dspring.datasource.url=jdbc:mysql://...&rewriteBatchedStatements=true), le nombre de
+// statements préparés montre en revanche le batching partout.
+@Tag("benchmark")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class InsertThroughputBenchmark {
+    private static final int TASKS = 10_000;
+    private static final int EVENTS = 100_000;
+    private static final int WARMUP = 2_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long projectId;
+    private Long statusId;
+    private Long taskId;
+
+    @Test
+    void compareIdentityAndPooledInserts() {
+        Status status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+        Project project = new Project();
+        project.setName("Benchmark project");
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(status);
+        entityManager.persist(project);
+        Task task = newTask(0);
+        task.setProject(project);
+        task.setStatus(status);
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        projectId = project.getId();
+        statusId = status.getId();
+        taskId = task.getId();
+
+        measure(WARMUP, this::persistIdentityTask);
+        measure(WARMUP, this::persistPooledTask);
+
+        Result identityTasks = measure(TASKS, this::persistIdentityTask);
+        Result pooledTasks = measure(TASKS, this::persistPooledTask);
+        Result identityEvents = measure(EVENTS, this::persistIdentityEvent);
+        Result pooledEvents = measure(EVENTS, this::persistPooledEvent);
+
+        System.out.printf("%n%-28s %12s %12s%n", "scenario", "rows/s", "prepared");
+        print("10k tasks, IDENTITY", identityTasks);
+        print("10k tasks, pooled + batch", pooledTasks);
+        print("100k events, IDENTITY", identityEvents);
+        print("100k events, pooled + batch", pooledEvents);
+
+        assertTrue(pooledTasks.statements() < identityTasks.statements());
+        assertTrue(pooledEvents.statements() < identityEvents.statements());
+    }
+
+    private void persistIdentityTask(int i) {
+        IdentityTask task = new IdentityTask();
+        task.setName("Task " + i);
+        task.setPriority(i % 3);
+        task.setProject(entityManager.getReference(Project.class, projectId));
+        task.setStatus(entityManager.getReference(Status.class, statusId));
+        entityManager.persist(task);
+    }
+
+    private void persistPooledTask(int i) {
+        Task task = newTask(i);
+        task.setProject(entityManager.getReference(Project.class, projectId));
+        task.setStatus(entityManager.getReference(Status.class, statusId));
+        entityManager.persist(task);
+    }
+
+    private void persistIdentityEvent(int i) {
+        IdentityTaskEvent event = new IdentityTaskEvent();
+        event.setTask(entityManager.getReference(Task.class, taskId));
+        event.setDescription("Event " + i);
+        event.setDate(LocalDateTime.now());
+        entityManager.persist(event);
+    }
+
+    private void persistPooledEvent(int i) {
+        TaskEvent event = new TaskEvent();
+        event.setTask(entityManager.getReference(Task.class, taskId));
+        event.setDescription("Event " + i);
+        event.setDate(LocalDateTime.now());
+        entityManager.persist(event);
+    }
+
+    private Task newTask(int i) {
+        Task task = new Task();
+        task.setName("Task " + i);
+        task.setPriority(i % 3);
+        return task;
+    }
+
+    private Result measure(int rows, IntConsumer insert) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            insert.accept(i);
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(rows * 1_000_000_000.0 / elapsed, statistics.getPrepareStatementCount());
+    }
+
+    private void print(String scenario, Result result) {
+        System.out.printf("%-28s %12.0f %12d%n", scenario, result.rowsPerSecond(), result.statements());
+    }
+
+    private record Result(double rowsPerSecond, long statements) {
+    }
+}
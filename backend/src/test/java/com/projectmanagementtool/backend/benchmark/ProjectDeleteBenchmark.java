@@ -0,0 +1,164 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.ProjectRepository;
+import com.projectmanagementtool.backend.repository.TaskEventRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.service.ProjectDeleter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Suppression d'un gros projet : ancienne boucle par tâche contre DELETE ensemblistes,
+// en une fois puis par lots. Taille réglable : -Dbench.delete.tasks=5000 -Dbench.delete.events-per-task=40
+// Exclu du build par défaut : mvn -Pbenchmark test
+@Tag("benchmark")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ProjectDeleter.class)
+class ProjectDeleteBenchmark {
+    private static final int TASKS = Integer.getInteger("bench.delete.tasks", 2_000);
+    private static final int EVENTS_PER_TASK = Integer.getInteger("bench.delete.events-per-task", 20);
+    private static final int CHUNK_SIZE = 500;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectDeleter projectDeleter;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskEventRepository taskEventRepository;
+
+    private Status status;
+    private Role role;
+    private User user;
+
+    @Test
+    void compareProjectDeleteStrategies() {
+        status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+        role = new Role();
+        role.setName("Admin");
+        entityManager.persist(role);
+        user = new User();
+        user.setUsername("bench");
+        user.setEmail("bench@example.com");
+        user.setPassword("password");
+        entityManager.persist(user);
+
+        Result legacy = measure(seedProject("Legacy"), this::deleteLikeBefore);
+        Result setBased = measure(seedProject("Set-based"), projectId -> projectDeleter.delete(projectId));
+        ReflectionTestUtils.setField(projectDeleter, "chunkSize", CHUNK_SIZE);
+        Result chunked = measure(seedProject("Chunked"), projectId -> projectDeleter.delete(projectId));
+
+        System.out.printf("%n%d tasks, %d events per project%n", TASKS, TASKS * EVENTS_PER_TASK);
+        System.out.printf("%-28s %10s %12s%n", "strategy", "ms", "statements");
+        print("per task (before)", legacy);
+        print("set-based", setBased);
+        print("set-based, chunks of " + CHUNK_SIZE, chunked);
+
+        assertEquals(0L, entityManager.createQuery("SELECT COUNT(e) FROM TaskEvent e", Long.class).getSingleResult());
+    }
+
+    // Reproduit l'ancien ProjectService.deleteProject
+    private void deleteLikeBefore(Long projectId) {
+        List<Task> tasks = entityManager.createQuery("SELECT t FROM Task t WHERE t.project.id = :projectId", Task.class)
+                .setParameter("projectId", projectId)
+                .getResultList();
+        for (Task task : tasks) {
+            taskEventRepository.deleteAll(taskEventRepository.findByTaskId(task.getId()));
+        }
+        taskRepository.deleteAll(tasks);
+        projectRepository.delete(projectRepository.findById(projectId).orElseThrow());
+    }
+
+    private Long seedProject(String name) {
+        Project project = new Project();
+        project.setName(name + " project");
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(entityManager.getReference(Status.class, status.getId()));
+        entityManager.persist(project);
+        ProjectMember member = new ProjectMember();
+        member.setProject(project);
+        member.setUser(entityManager.getReference(User.class, user.getId()));
+        member.setRole(entityManager.getReference(Role.class, role.getId()));
+        entityManager.persist(member);
+        Long projectId = project.getId();
+
+        int pending = 0;
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setName("Task " + i);
+            task.setProject(entityManager.getReference(Project.class, projectId));
+            task.setStatus(entityManager.getReference(Status.class, status.getId()));
+            entityManager.persist(task);
+            for (int j = 0; j < EVENTS_PER_TASK; j++) {
+                TaskEvent event = new TaskEvent();
+                event.setTask(task);
+                event.setDescription("Event " + j);
+                event.setDate(LocalDateTime.now());
+                entityManager.persist(event);
+            }
+            pending += EVENTS_PER_TASK + 1;
+            if (pending >= FLUSH_EVERY) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return projectId;
+    }
+
+    private Result measure(Long projectId, Consumer<Long> delete) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        delete.accept(projectId);
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        return new Result(elapsedMs, statistics.getPrepareStatementCount());
+    }
+
+    private void print(String strategy, Result result) {
+        System.out.printf("%-28s %10d %12d%n", strategy, result.millis(), result.statements());
+    }
+
+    private record Result(long millis, long statements) {
+    }
+}
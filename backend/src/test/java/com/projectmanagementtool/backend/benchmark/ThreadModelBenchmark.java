@@ -0,0 +1,193 @@
+package com.projectmanagementtool.backend.benchmark;
+
+import com.projectmanagementtool.backend.ProjectManagementToolApplication;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
+import com.projectmanagementtool.backend.security.JwtService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Latence p50/p99 et débit des principaux GET, application démarrée sur threads plateforme puis
+// avec le profil virtual-threads (ignoré sous Java < 21). Même pool Hikari dans les deux cas.
+// H2 par défaut ; pour mesurer l'attente I/O réelle, pointer sur MySQL : -Dspring.datasource.url=...
+// Réglages : -Dbench.threads.concurrency=200 -Dbench.threads.requests=4000 -Dbench.threads.tasks=200
+// Exclu du build par défaut : mvn -Pbenchmark test -Dtest=ThreadModelBenchmark
+@Tag("benchmark")
+class ThreadModelBenchmark {
+    private static final int CONCURRENCY = Integer.getInteger("bench.threads.concurrency", 200);
+    private static final int REQUESTS = Integer.getInteger("bench.threads.requests", 4_000);
+    private static final int TASKS = Integer.getInteger("bench.threads.tasks", 200);
+    private static final int WARMUP = 500;
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Map<String, Map<String, Result>> results = new LinkedHashMap<>();
+        results.put("platform", run(false));
+        if (Runtime.version().feature() >= 21) {
+            results.put("virtual", run(true));
+        } else {
+            System.out.printf("%nJava %d : virtual threads need Java 21, only the platform run is measured%n",
+                    Runtime.version().feature());
+        }
+
+        System.out.printf("%n%d clients, %d requests per endpoint, %d tasks%n", CONCURRENCY, REQUESTS, TASKS);
+        System.out.printf("%-10s %-34s %10s %10s %10s %8s%n", "threads", "endpoint", "p50 ms", "p99 ms", "req/s", "errors");
+        results.forEach((threads, byEndpoint) -> byEndpoint.forEach((endpoint, result) ->
+                System.out.printf("%-10s %-34s %10.1f %10.1f %10.0f %8d%n", threads, endpoint,
+                        result.p50Millis(), result.p99Millis(), result.requestsPerSecond(), result.errors())));
+    }
+
+    private Map<String, Result> run(boolean virtualThreads) throws Exception {
+        String profiles = virtualThreads ? "test,virtual-threads" : "test";
+        // En arguments de ligne de commande pour primer sur spring.profiles.active=dev d'application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ProjectManagementToolApplication.class)
+                .run("--spring.profiles.active=" + profiles,
+                        "--server.port=0",
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.projectmanagementtool=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Seed seed = seed(context);
+            String base = "http://localhost:" + port;
+
+            Map<String, String> endpoints = new LinkedHashMap<>();
+            endpoints.put("GET /api/projects", base + "/api/projects");
+            endpoints.put("GET /api/projects/{id}/details", base + "/api/projects/" + seed.projectId() + "/details");
+            endpoints.put("GET /api/tasks/project/{id}", base + "/api/tasks/project/" + seed.projectId());
+            endpoints.put("GET /api/tasks/project/{id}/page", base + "/api/tasks/project/" + seed.projectId() + "/page");
+
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+            Map<String, Result> results = new LinkedHashMap<>();
+            for (Map.Entry<String, String> endpoint : endpoints.entrySet()) {
+                load(client, endpoint.getValue(), seed.token(), WARMUP);
+                results.put(endpoint.getKey(), load(client, endpoint.getValue(), seed.token(), REQUESTS));
+            }
+            return results;
+        }
+    }
+
+    // CONCURRENCY clients en boucle fermée : chacun envoie sa requête suivante dès la réponse reçue
+    private Result load(HttpClient client, String url, String token, int requests) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int c = 0; c < CONCURRENCY; c++) {
+            clients.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < requests) {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sent;
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(
+                latencies[(int) (requests * 0.50)] / 1e6,
+                latencies[Math.min(requests - 1, (int) (requests * 0.99))] / 1e6,
+                requests / (elapsed / 1e9),
+                errors.get());
+    }
+
+    private Seed seed(ConfigurableApplicationContext context) {
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        JwtService jwtService = context.getBean(JwtService.class);
+
+        return transactionTemplate.execute(tx -> {
+            Status status = new Status();
+            status.setName("To Do");
+            entityManager.persist(status);
+            Role role = new Role();
+            role.setName("Admin");
+            entityManager.persist(role);
+            User user = new User();
+            user.setUsername("bench");
+            user.setEmail("bench@example.com");
+            user.setPassword("password");
+            entityManager.persist(user);
+
+            Project project = new Project();
+            project.setName("Thread model project");
+            project.setStartDate(LocalDate.now());
+            project.setStatus(status);
+            entityManager.persist(project);
+            ProjectMember member = new ProjectMember();
+            member.setProject(project);
+            member.setUser(user);
+            member.setRole(role);
+            entityManager.persist(member);
+
+            for (int i = 0; i < TASKS; i++) {
+                Task task = new Task();
+                task.setName("Task " + i);
+                task.setProject(project);
+                task.setStatus(status);
+                task.setPriority(i % 3);
+                task.setAssignee(user);
+                task.setDueDate(LocalDate.now().plusDays(i % 30));
+                entityManager.persist(task);
+                for (int e = 0; e < 3; e++) {
+                    TaskEvent event = new TaskEvent();
+                    event.setTask(task);
+                    event.setDescription("Event " + e);
+                    event.setDate(LocalDateTime.now());
+                    entityManager.persist(event);
+                }
+            }
+            return new Seed(project.getId(), jwtService.generateToken(AuthenticatedUser.from(user)));
+        });
+    }
+
+    private record Seed(Long projectId, String token) {
+    }
+
+    private record Result(double p50Millis, double p99Millis, double requestsPerSecond, int errors) {
+    }
+}
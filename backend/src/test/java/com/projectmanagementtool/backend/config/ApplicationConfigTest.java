@@ -0,0 +1,72 @@
+package com.projectmanagementtool.backend.config;
+
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.UserRepository;
+import com.projectmanagementtool.backend.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class ApplicationConfigTest {
+
+    private UserRepository userRepository;
+    private ApplicationConfig config;
+    private PooledPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        // Hash stocké au coût 4
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("dave");
+        user.setEmail("dave@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail("dave@example.com")).thenReturn(Optional.of(user));
+        config = new ApplicationConfig(userRepository);
+    }
+
+    @AfterEach
+    void closeEncoder() {
+        passwordEncoder.close();
+    }
+
+    @Test
+    void authenticate_ShouldRehashPassword_WhenStoredCostIsBelowConfiguredStrength() {
+        // When
+        authenticateWithStrength(5);
+
+        // Then
+        verify(userRepository).updatePassword(eq(7L), startsWith("$2a$05$"));
+    }
+
+    @Test
+    void authenticate_ShouldKeepPassword_WhenStoredCostMatches() {
+        // When
+        authenticateWithStrength(4);
+
+        // Then
+        verify(userRepository, never()).updatePassword(any(), any());
+    }
+
+    private void authenticateWithStrength(int strength) {
+        passwordEncoder = (PooledPasswordEncoder) config.passwordEncoder(
+                new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class),
+                new MockEnvironment().withProperty("security.password.bcrypt-strength", String.valueOf(strength)));
+        config.authenticationProvider(passwordEncoder)
+                .authenticate(new UsernamePasswordAuthenticationToken("dave@example.com", "secret"));
+    }
+}
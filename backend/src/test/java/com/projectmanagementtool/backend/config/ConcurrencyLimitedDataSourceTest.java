@@ -0,0 +1,47 @@
+package com.projectmanagementtool.backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    void getConnection_ShouldWaitForPermit_AndReleaseItOnceOnClose() throws SQLException {
+        // Given
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        // When
+        Connection borrowed = dataSource.getConnection();
+
+        // Then
+        assertEquals(0, dataSource.availablePermits());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        borrowed.close();
+        borrowed.close();
+        verify(connection, times(2)).close();
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    @Test
+    void getConnection_ShouldReturnPermit_WhenPoolFails() throws SQLException {
+        // Given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+
+        // When / Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(2, dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,400 @@
+package com.projectmanagementtool.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagementtool.backend.dto.AuthRequest;
+import com.projectmanagementtool.backend.dto.BulkTaskMoveDto;
+import com.projectmanagementtool.backend.dto.BulkTaskUpdateDto;
+import com.projectmanagementtool.backend.dto.ProjectMemberRequestDto;
+import com.projectmanagementtool.backend.dto.ProjectRequestDto;
+import com.projectmanagementtool.backend.dto.TaskEventDto;
+import com.projectmanagementtool.backend.dto.TaskRequestDto;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
+import com.projectmanagementtool.backend.security.JwtService;
+import com.projectmanagementtool.backend.security.RefreshTokenService;
+import com.projectmanagementtool.backend.service.ReferenceDataRegistry;
+import com.projectmanagementtool.backend.support.QueryCountAssertions.Scenario;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.projectmanagementtool.backend.support.QueryCountAssertions.assertQueryCountDoesNotScale;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Chaque endpoint est joué sur un petit et un grand projet (4x plus de membres, de tâches, d'historique
+// et de projets visibles) : le nombre de statements SQL doit être identique et rester sous le budget.
+// Pas de @Transactional ici : la requête doit avoir son propre contexte de persistance, comme en production.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ControllerQueryCountTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${query-budget.per-request:20}")
+    private long budget;
+
+    private String encodedPassword;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(tx -> {
+            for (String name : List.of("To Do", "In Progress", "Done")) {
+                if (referenceDataRegistry.findStatusByName(name).isEmpty()) {
+                    Status status = new Status();
+                    status.setName(name);
+                    entityManager.persist(status);
+                }
+            }
+            for (String name : List.of("Admin", "Member", "Observer")) {
+                if (referenceDataRegistry.findRoleByName(name).isEmpty()) {
+                    Role role = new Role();
+                    role.setName(name);
+                    entityManager.persist(role);
+                }
+            }
+        });
+        if (encodedPassword == null) {
+            encodedPassword = passwordEncoder.encode(PASSWORD);
+        }
+    }
+
+    @Test
+    void projectController() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/projects", small, large, f -> ok(get("/api/projects"), f));
+        check("GET /api/projects/page", small, large, f -> ok(get("/api/projects/page").param("size", "5"), f));
+        check("GET /api/projects/{id}", small, large, f -> ok(get("/api/projects/{id}", f.projectId()), f));
+        check("GET /api/projects/{id}/details", small, large, f -> ok(get("/api/projects/{id}/details", f.projectId()), f));
+        check("GET /api/projects/status/{statusId}", small, large,
+                f -> ok(get("/api/projects/status/{statusId}", f.statusId()), f));
+        check("POST /api/projects", small, large, f -> ok(post("/api/projects"), f, projectRequest(f)));
+        check("PUT /api/projects/{id}", small, large, f -> ok(put("/api/projects/{id}", f.projectId()), f, projectRequest(f)));
+        check("PATCH /api/projects/{id}/status", small, large,
+                f -> ok(patch("/api/projects/{id}/status", f.projectId()).content("Done").contentType(MediaType.TEXT_PLAIN), f));
+        check("DELETE /api/projects/{id}", small, large, f -> ok(delete("/api/projects/{id}", f.projectId()), f));
+    }
+
+    @Test
+    void projectMemberController() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/projects/{projectId}/members", small, large,
+                f -> ok(get("/api/projects/{projectId}/members", f.projectId()), f));
+        check("GET /api/projects/{projectId}/members/{id}", small, large,
+                f -> ok(get("/api/projects/{projectId}/members/{id}", f.projectId(), f.memberIds().get(0)), f));
+        check("POST /api/projects/{projectId}/members", small, large,
+                f -> ok(post("/api/projects/{projectId}/members", f.projectId()), f,
+                        memberRequest(f)));
+        check("PUT /api/projects/{projectId}/members/{id}/role/{roleId}", small, large,
+                f -> ok(put("/api/projects/{projectId}/members/{id}/role/{roleId}",
+                        f.projectId(), f.memberIds().get(0), f.adminRoleId()), f));
+        check("DELETE /api/projects/{projectId}/members/{id}", small, large,
+                f -> ok(delete("/api/projects/{projectId}/members/{id}", f.projectId(), f.memberIds().get(1)), f));
+    }
+
+    @Test
+    void taskController() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/tasks", small, large, f -> ok(get("/api/tasks"), f));
+        check("GET /api/tasks/{id}", small, large, f -> ok(get("/api/tasks/{id}", f.taskIds().get(0)), f));
+        check("GET /api/tasks/{id}/details", small, large, f -> ok(get("/api/tasks/{id}/details", f.taskIds().get(0)), f));
+        check("GET /api/tasks/project/{projectId}", small, large, f -> ok(get("/api/tasks/project/{projectId}", f.projectId()), f));
+        check("GET /api/tasks/assignee/{assigneeId}", small, large,
+                f -> ok(get("/api/tasks/assignee/{assigneeId}", f.ownerId()), f));
+        check("GET /api/tasks/project/{projectId}/status/{statusId}", small, large,
+                f -> ok(get("/api/tasks/project/{projectId}/status/{statusId}", f.projectId(), f.statusId()), f));
+        check("GET /api/tasks/project/{projectId}/page", small, large,
+                f -> ok(get("/api/tasks/project/{projectId}/page", f.projectId()).param("size", "5"), f));
+        check("GET /api/tasks/assignee/{assigneeId}/page", small, large,
+                f -> ok(get("/api/tasks/assignee/{assigneeId}/page", f.ownerId()).param("size", "5"), f));
+        check("GET /api/tasks/project/{projectId}/status/{statusId}/page", small, large,
+                f -> ok(get("/api/tasks/project/{projectId}/status/{statusId}/page", f.projectId(), f.statusId())
+                        .param("size", "5"), f));
+        check("POST /api/tasks", small, large, f -> ok(post("/api/tasks"), f, taskRequest(f)));
+        check("POST /api/tasks/bulk", small, large, f -> ok(post("/api/tasks/bulk"), f, List.of(taskRequest(f), taskRequest(f))));
+        check("PATCH /api/tasks/{id}", small, large, f -> {
+            TaskRequestDto request = new TaskRequestDto();
+            request.setName("Renamed " + SEQUENCE.incrementAndGet());
+            request.setPriority(5);
+            ok(patch("/api/tasks/{id}", f.taskIds().get(0)), f, request);
+        });
+        check("PATCH /api/tasks/bulk", small, large, f -> {
+            BulkTaskUpdateDto request = new BulkTaskUpdateDto();
+            request.setTaskIds(f.taskIds());
+            request.setPriority(4);
+            request.setAssigneeId(f.ownerId());
+            ok(patch("/api/tasks/bulk"), f, request);
+        });
+        check("DELETE /api/tasks/{id}", small, large, f -> ok(delete("/api/tasks/{id}", f.taskIds().get(1)), f));
+        check("POST /api/tasks/bulk/move", small, large, f -> {
+            BulkTaskMoveDto request = new BulkTaskMoveDto();
+            request.setTaskIds(f.taskIds().subList(2, f.taskIds().size()));
+            request.setTargetProjectId(f.otherProjectId());
+            ok(post("/api/tasks/bulk/move"), f, request);
+        });
+    }
+
+    @Test
+    void taskEventController() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/tasks/{taskId}/events", small, large,
+                f -> ok(get("/api/tasks/{taskId}/events", f.taskIds().get(0)), f));
+        check("GET /api/tasks/{taskId}/events/{id}", small, large,
+                f -> ok(get("/api/tasks/{taskId}/events/{id}", f.taskIds().get(0), f.eventIds().get(0)), f));
+        check("POST /api/tasks/{taskId}/events", small, large, f -> {
+            TaskEventDto request = new TaskEventDto();
+            request.setDescription("Commented");
+            ok(post("/api/tasks/{taskId}/events", f.taskIds().get(0)), f, request);
+        });
+        check("DELETE /api/tasks/{taskId}/events/{id}", small, large,
+                f -> ok(delete("/api/tasks/{taskId}/events/{id}", f.taskIds().get(0), f.eventIds().get(1)), f));
+    }
+
+    @Test
+    void userController() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/users", small, large, f -> ok(get("/api/users"), f));
+        check("GET /api/users/{id}", small, large, f -> ok(get("/api/users/{id}", f.ownerId()), f));
+    }
+
+    @Test
+    void referenceDataControllers() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/roles", small, large, f -> ok(get("/api/roles"), f));
+        check("GET /api/roles/{id}", small, large, f -> ok(get("/api/roles/{id}", f.memberRoleId()), f));
+        check("GET /api/statuses", small, large, f -> ok(get("/api/statuses"), f));
+        check("GET /api/statuses/{id}", small, large, f -> ok(get("/api/statuses/{id}", f.statusId()), f));
+    }
+
+    @Test
+    void authAndHealthControllers() throws Exception {
+        Fixture small = seed(1);
+        Fixture large = seed(4);
+
+        check("GET /api/health", small, large, f -> mockMvc.perform(get("/api/health")).andExpect(status().isOk()));
+        check("POST /api/auth/login", small, large, f -> mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(authRequest(f.ownerEmail(), null))))
+                .andExpect(status().isOk()));
+        check("POST /api/auth/register", small, large, f -> {
+            String username = "newcomer" + SEQUENCE.incrementAndGet();
+            mockMvc.perform(post("/api/auth/register")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(authRequest(username + "@example.com", username))))
+                    .andExpect(status().isOk());
+        });
+        check("POST /api/auth/refresh", small, large, f -> mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshTokenService.issue(f.ownerId()) + "\"}"))
+                .andExpect(status().isOk()));
+        check("POST /api/auth/logout", small, large, f -> mockMvc.perform(post("/api/auth/logout")).andExpect(status().isOk()));
+    }
+
+    private void check(String endpoint, Fixture small, Fixture large, Scenario<Fixture> scenario) throws Exception {
+        assertQueryCountDoesNotScale(endpoint, budget, small, large, scenario);
+    }
+
+    private void ok(MockHttpServletRequestBuilder request, Fixture fixture) throws Exception {
+        mockMvc.perform(request.header("Authorization", "Bearer " + fixture.token()))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private void ok(MockHttpServletRequestBuilder request, Fixture fixture, Object body) throws Exception {
+        ok(request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body)), fixture);
+    }
+
+    private ProjectRequestDto projectRequest(Fixture fixture) {
+        ProjectRequestDto request = new ProjectRequestDto();
+        request.setName("Project " + SEQUENCE.incrementAndGet());
+        request.setDescription("Created by the query count suite");
+        request.setStartDate(LocalDate.now());
+        request.setEndDate(LocalDate.now().plusMonths(1));
+        request.setStatusId(fixture.statusId());
+        return request;
+    }
+
+    private ProjectMemberRequestDto memberRequest(Fixture fixture) {
+        ProjectMemberRequestDto request = new ProjectMemberRequestDto();
+        request.setUserId(fixture.outsiderId());
+        request.setRoleId(fixture.memberRoleId());
+        return request;
+    }
+
+    private TaskRequestDto taskRequest(Fixture fixture) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setProjectId(fixture.projectId());
+        request.setName("Task " + SEQUENCE.incrementAndGet());
+        request.setPriority(3);
+        request.setStatusId(fixture.statusId());
+        request.setAssigneeId(fixture.ownerId());
+        return request;
+    }
+
+    private AuthRequest authRequest(String email, String username) {
+        AuthRequest request = new AuthRequest();
+        request.setEmail(email);
+        request.setUsername(username);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+
+    // scale 1 : 3 membres, 5 tâches de 2 événements, 2 autres projets ; scale 4 : tout x4
+    private Fixture seed(int scale) {
+        Status status = referenceDataRegistry.findStatusByName("To Do").orElseThrow();
+        Role admin = referenceDataRegistry.findRoleByName("Admin").orElseThrow();
+        Role member = referenceDataRegistry.findRoleByName("Member").orElseThrow();
+
+        return transactionTemplate.execute(tx -> {
+            User owner = user();
+            User outsider = user();
+            Project project = project(status, owner, admin);
+
+            List<Long> memberIds = new ArrayList<>();
+            List<User> members = new ArrayList<>();
+            for (int i = 0; i < 3 * scale; i++) {
+                User user = user();
+                members.add(user);
+                memberIds.add(member(project, user, member).getId());
+            }
+
+            List<Long> taskIds = new ArrayList<>();
+            List<Long> eventIds = new ArrayList<>();
+            for (int i = 0; i < 5 * scale; i++) {
+                // Un assigné différent par tâche, et le propriétaire sur la moitié d'entre elles
+                Task task = task(project, status, i % 2 == 0 ? owner : members.get(i % members.size()));
+                taskIds.add(task.getId());
+                for (int j = 0; j < 2 * scale; j++) {
+                    TaskEvent event = new TaskEvent();
+                    event.setTask(task);
+                    event.setDescription("Event " + j);
+                    event.setDate(LocalDateTime.now().minusDays(j));
+                    entityManager.persist(event);
+                    if (i == 0) {
+                        eventIds.add(event.getId());
+                    }
+                }
+            }
+
+            Project other = null;
+            for (int i = 0; i < 2 * scale; i++) {
+                other = project(status, owner, admin);
+                task(other, status, owner);
+            }
+
+            String token = jwtService.generateToken(AuthenticatedUser.from(owner));
+            return new Fixture(token, owner.getId(), owner.getEmail(), outsider.getId(), project.getId(),
+                    other.getId(), status.getId(), admin.getId(), member.getId(), memberIds, taskIds, eventIds);
+        });
+    }
+
+    private User user() {
+        int n = SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setUsername("user" + n);
+        user.setEmail("user" + n + "@example.com");
+        user.setPassword(encodedPassword);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Project project(Status status, User owner, Role admin) {
+        Project project = new Project();
+        project.setName("Project " + SEQUENCE.incrementAndGet());
+        project.setStartDate(LocalDate.now());
+        project.setEndDate(LocalDate.now().plusMonths(1));
+        project.setStatus(entityManager.merge(status));
+        entityManager.persist(project);
+        member(project, owner, admin);
+        return project;
+    }
+
+    private ProjectMember member(Project project, User user, Role role) {
+        ProjectMember member = new ProjectMember();
+        member.setProject(project);
+        member.setUser(user);
+        member.setRole(entityManager.merge(role));
+        entityManager.persist(member);
+        project.getMembers().add(member);
+        return member;
+    }
+
+    private Task task(Project project, Status status, User assignee) {
+        Task task = new Task();
+        task.setProject(project);
+        task.setName("Task " + SEQUENCE.incrementAndGet());
+        task.setPriority(1);
+        task.setDueDate(LocalDate.now().plusDays(7));
+        task.setStatus(entityManager.merge(status));
+        task.setAssignee(assignee);
+        entityManager.persist(task);
+        return task;
+    }
+
+    private record Fixture(String token, Long ownerId, String ownerEmail, Long outsiderId, Long projectId,
+                           Long otherProjectId, Long statusId, Long adminRoleId, Long memberRoleId,
+                           List<Long> memberIds, List<Long> taskIds, List<Long> eventIds) {
+    }
+}
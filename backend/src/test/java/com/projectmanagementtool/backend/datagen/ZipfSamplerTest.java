@@ -0,0 +1,35 @@
+package com.projectmanagementtool.backend.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfSamplerTest {
+
+    @Test
+    void next_ShouldBeDeterministicForASeed_AndSkewedTowardsFewItems() {
+        int[] first = draw(42);
+        int[] second = draw(42);
+
+        assertArrayEquals(first, second);
+        int[] counts = new int[1_000];
+        Arrays.stream(first).forEach(index -> counts[index]++);
+        int[] sorted = Arrays.stream(counts).sorted().toArray();
+        // Les 10 éléments les plus tirés concentrent bien plus que leur part uniforme de 1 %
+        int top = Arrays.stream(sorted, sorted.length - 10, sorted.length).sum();
+        assertTrue(top > first.length / 10, "top 10 drew " + top);
+        assertTrue(Arrays.stream(first).allMatch(index -> index >= 0 && index < 1_000));
+    }
+
+    private static int[] draw(long seed) {
+        ZipfSampler sampler = new ZipfSampler(1_000, 1.0, new Random(seed));
+        int[] draws = new int[20_000];
+        for (int i = 0; i < draws.length; i++) {
+            draws[i] = sampler.next();
+        }
+        return draws;
+    }
+}
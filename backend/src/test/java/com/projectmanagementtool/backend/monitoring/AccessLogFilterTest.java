@@ -0,0 +1,61 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Taux d'échantillonnage nul et seuil de lenteur hors d'atteinte : seules les erreurs sont journalisées
+@SpringBootTest(properties = {"access-log.sample-rate=0", "access-log.slow-threshold-ms=60000"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AccessLogFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        accessLogger.detachAppender(appender);
+    }
+
+    @Test
+    void errorResponse_ShouldAlwaysBeLoggedOnOneLine() throws Exception {
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isForbidden());
+
+        assertThat(appender.list).singleElement()
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .asString()
+                .matches("method=GET route=\\S+ path=/api/users status=403 duration_ms=[0-9.]+ queries=0 sample=1.0");
+    }
+
+    @Test
+    void fastSuccess_ShouldBeSkippedWhenNotSampled() throws Exception {
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isOk());
+
+        assertThat(appender.list).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.projectmanagementtool.backend.monitoring;
+
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.UserRepository;
+import com.projectmanagementtool.backend.security.AuthenticatedUser;
+import com.projectmanagementtool.backend.security.JwtService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "server-timing.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ServerTimingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void jsonResponse_ShouldCarryEveryPhaseAndTheQueryCount() throws Exception {
+        User user = new User();
+        user.setUsername("timed");
+        user.setEmail("timed@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+        String token = jwtService.generateToken(AuthenticatedUser.from(user));
+
+        mockMvc.perform(get("/api/users/{id}", user.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER,
+                        matchesPattern("auth;dur=[0-9.]+, db;dur=[0-9.]+;desc=\"1 queries\", mapping;dur=[0-9.]+, "
+                                + "json;dur=[0-9.]+, total;dur=[0-9.]+")));
+    }
+
+    @Test
+    void responseWithoutJsonBody_ShouldStillCarryTheHeader() throws Exception {
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().string(ServerTiming.HEADER, containsString("total;dur=")));
+    }
+
+    @Test
+    void nestedRepositoryCall_ShouldBeCountedOnce() throws Exception {
+        ServerTiming timing = ServerTiming.start(false);
+        try {
+            long outerStart = System.nanoTime();
+            boolean outer = timing.enter(ServerTiming.Phase.DB);
+            Thread.sleep(20);
+
+            long innerStart = System.nanoTime();
+            boolean inner = timing.enter(ServerTiming.Phase.DB);
+            Thread.sleep(20);
+            timing.exit(ServerTiming.Phase.DB, inner, innerStart);
+
+            timing.exit(ServerTiming.Phase.DB, outer, outerStart);
+            double outerMillis = (System.nanoTime() - outerStart) / 1_000_000.0;
+
+            // Compté deux fois, db dépasserait la durée de l'appel externe d'au moins 20 ms (0,01 : arrondi de l'en-tête)
+            assertThat(outer).isTrue();
+            assertThat(inner).isFalse();
+            Matcher db = Pattern.compile("db;dur=([0-9.]+)").matcher(timing.header());
+            assertThat(db.find()).isTrue();
+            assertThat(Double.parseDouble(db.group(1))).isBetween(40.0, outerMillis + 0.01);
+        } finally {
+            ServerTiming.clear();
+        }
+    }
+}
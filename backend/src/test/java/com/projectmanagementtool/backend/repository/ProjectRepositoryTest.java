@@ -0,0 +1,165 @@
+package com.projectmanagementtool.backend.repository;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.projection.ProjectRow;
+import com.projectmanagementtool.backend.repository.projection.ProjectVersionRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ProjectRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void findProjectRowsVisibleToUser_ShouldReturnOnlyMemberProjects_WithRole() {
+        // Given
+        Status status = new Status();
+        status.setName("In Progress");
+        entityManager.persist(status);
+        Role admin = new Role();
+        admin.setName("Admin");
+        entityManager.persist(admin);
+        User alice = persistUser("alice");
+        User bob = persistUser("bob");
+
+        Project shared = persistProject("Shared project", status);
+        Project alicesOnly = persistProject("Alice project", status);
+        persistProject("Nobody project", status);
+        persistMember(shared, alice, admin);
+        persistMember(alicesOnly, alice, admin);
+        persistMember(shared, bob, admin);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<ProjectRow> rows = projectRepository.findProjectRowsVisibleToUser(alice.getId());
+
+        // Then
+        assertEquals(List.of(shared.getId(), alicesOnly.getId()),
+                rows.stream().map(ProjectRow::getId).toList());
+        rows.forEach(row -> {
+            assertEquals("Admin", row.getMyRole());
+            assertEquals("In Progress", row.getStatusName());
+        });
+        assertEquals(1, projectRepository.findProjectRowsVisibleToUser(bob.getId()).size());
+        assertEquals(2, projectRepository.findProjectRowsVisibleToUserByStatusId(alice.getId(), status.getId()).size());
+        assertEquals(List.of(shared.getId()), projectRepository
+                .findProjectRowsVisibleToUserAfter(alice.getId(), 0L, Limit.of(1)).stream().map(ProjectRow::getId).toList());
+        assertEquals(List.of(alicesOnly.getId()), projectRepository
+                .findProjectRowsVisibleToUserAfter(alice.getId(), shared.getId(), Limit.of(5)).stream().map(ProjectRow::getId).toList());
+    }
+
+    @Test
+    void findProjectRowById_ShouldReturnHeader_WithRoleOnlyForMembers() {
+        // Given
+        Status status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+        Role member = new Role();
+        member.setName("Member");
+        entityManager.persist(member);
+        User alice = persistUser("alice");
+        User outsider = persistUser("outsider");
+        Project project = persistProject("Detailed project", status);
+        persistMember(project, alice, member);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        ProjectRow asMember = projectRepository.findProjectRowById(project.getId(), alice.getId()).orElseThrow();
+        ProjectRow asOutsider = projectRepository.findProjectRowById(project.getId(), outsider.getId()).orElseThrow();
+
+        // Then
+        assertEquals("Detailed project", asMember.getName());
+        assertEquals("To Do", asMember.getStatusName());
+        assertEquals("Member", asMember.getMyRole());
+        assertNull(asOutsider.getMyRole());
+        assertTrue(projectRepository.findProjectRowById(-1L, alice.getId()).isEmpty());
+    }
+
+    @Test
+    void incrementVersions_ShouldBumpProjectsOfGivenIds_AndOfGivenTasks() {
+        // Given
+        Status status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+        Role admin = new Role();
+        admin.setName("Admin");
+        entityManager.persist(admin);
+        User alice = persistUser("alice");
+        Project touched = persistProject("Touched project", status);
+        Project untouched = persistProject("Untouched project", status);
+        persistMember(touched, alice, admin);
+        Task task = new Task();
+        task.setName("Versioned task");
+        task.setProject(touched);
+        task.setStatus(status);
+        entityManager.persist(task);
+        entityManager.flush();
+
+        // When
+        projectRepository.incrementVersions(List.of(touched.getId()));
+        projectRepository.incrementVersionsOfTasks(List.of(task.getId()));
+        entityManager.clear();
+
+        // Then
+        ProjectVersionRow row = projectRepository.findVersionRowById(touched.getId(), alice.getId()).orElseThrow();
+        assertEquals(2L, row.getVersion());
+        assertEquals("Admin", row.getMyRole());
+        ProjectVersionRow other = projectRepository.findVersionRowById(untouched.getId(), alice.getId()).orElseThrow();
+        assertEquals(0L, other.getVersion());
+        assertNull(other.getMyRole());
+
+        // La sauvegarde de l'entité ne réécrit jamais la version
+        Project reloaded = projectRepository.findById(touched.getId()).orElseThrow();
+        reloaded.setName("Renamed project");
+        reloaded.setVersion(0L);
+        projectRepository.saveAndFlush(reloaded);
+        entityManager.clear();
+        assertEquals(2L, projectRepository.findVersionRowById(touched.getId(), alice.getId()).orElseThrow().getVersion());
+    }
+
+    private User persistUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return entityManager.persist(user);
+    }
+
+    private Project persistProject(String name, Status status) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(status);
+        return entityManager.persist(project);
+    }
+
+    private void persistMember(Project project, User user, Role role) {
+        ProjectMember member = new ProjectMember();
+        member.setProject(project);
+        member.setUser(user);
+        member.setRole(role);
+        entityManager.persist(member);
+    }
+}
@@ -0,0 +1,211 @@
+package com.projectmanagementtool.backend.repository;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.pagination.TaskCursor;
+import com.projectmanagementtool.backend.pagination.TaskSort;
+import com.projectmanagementtool.backend.repository.projection.TaskCountRow;
+import com.projectmanagementtool.backend.repository.projection.TaskRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+
+    private Status status;
+
+    private User pager;
+
+    @BeforeEach
+    void setUp() {
+        status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+
+        project = new Project();
+        project.setName("Paged project");
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(status);
+        entityManager.persist(project);
+
+        // Membre du projet, pour les lectures paginées
+        pager = persistUser("pager");
+        Role editor = new Role();
+        editor.setName("Editor");
+        entityManager.persist(editor);
+        ProjectMember pagerMembership = new ProjectMember();
+        pagerMembership.setProject(project);
+        pagerMembership.setUser(pager);
+        pagerMembership.setRole(editor);
+        entityManager.persist(pagerMembership);
+
+        for (int i = 0; i < 23; i++) {
+            Task task = new Task();
+            task.setName("Task " + i);
+            task.setProject(project);
+            task.setStatus(status);
+            task.setPriority(i % 3);
+            // Une tâche sur quatre sans échéance pour couvrir les clés nulles
+            task.setDueDate(i % 4 == 0 ? null : LocalDate.of(2024, 1, 1).plusDays(i % 5));
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPage_ShouldWalkEveryTaskOnce_ForEachSort() {
+        for (TaskSort sort : TaskSort.values()) {
+            List<Long> seen = new ArrayList<>();
+            TaskCursor cursor = null;
+            List<TaskRow> page;
+            do {
+                page = taskRepository.findPage(pager.getId(), project.getId(), null, null, sort, cursor, 5);
+                page.forEach(task -> seen.add(task.getId()));
+                if (!page.isEmpty()) {
+                    // Aller-retour par la forme encodée, comme le ferait le client
+                    cursor = TaskCursor.decode(TaskCursor.after(page.get(page.size() - 1), sort).encode(), sort);
+                }
+            } while (page.size() == 5);
+
+            Set<Long> unique = new HashSet<>(seen);
+            assertEquals(23, seen.size(), "sort " + sort);
+            assertEquals(23, unique.size(), "sort " + sort);
+        }
+    }
+
+    @Test
+    void findPage_ShouldOrderByPriorityThenId() {
+        List<TaskRow> page = taskRepository.findPage(pager.getId(), project.getId(), null, null, TaskSort.PRIORITY, null, 23);
+
+        for (int i = 1; i < page.size(); i++) {
+            TaskRow previous = page.get(i - 1);
+            TaskRow current = page.get(i);
+            assertTrue(previous.getPriority() < current.getPriority()
+                    || (previous.getPriority().equals(current.getPriority()) && previous.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void findPage_ShouldReturnNothing_ForNonMember() {
+        // Given
+        User outsider = persistUser("outsider");
+        User assignee = entityManager.find(User.class, pager.getId());
+        Task assigned = entityManager.find(Task.class, taskRepository.findIdsByProjectId(project.getId(), Limit.of(1)).get(0));
+        assigned.setAssignee(assignee);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When & Then : ni par projet, ni par assignee, ni par statut
+        assertTrue(taskRepository.findPage(outsider.getId(), project.getId(), null, null, TaskSort.ID, null, 50).isEmpty());
+        assertTrue(taskRepository.findPage(outsider.getId(), null, pager.getId(), null, TaskSort.ID, null, 50).isEmpty());
+        assertTrue(taskRepository.findPage(outsider.getId(), project.getId(), null, status.getId(), TaskSort.ID, null, 50).isEmpty());
+        assertEquals(1, taskRepository.findPage(pager.getId(), null, pager.getId(), null, TaskSort.ID, null, 50).size());
+    }
+
+    @Test
+    void findTaskRowsVisibleToUser_ShouldReturnOnlyMemberProjectsTasks_WithRole() {
+        // Given
+        User member = persistUser("member");
+        Role role = new Role();
+        role.setName("Observer");
+        entityManager.persist(role);
+
+        ProjectMember membership = new ProjectMember();
+        membership.setProject(entityManager.find(Project.class, project.getId()));
+        membership.setUser(member);
+        membership.setRole(role);
+        entityManager.persist(membership);
+
+        Project otherProject = new Project();
+        otherProject.setName("Hidden project");
+        otherProject.setStartDate(LocalDate.of(2024, 1, 1));
+        otherProject.setStatus(entityManager.find(Status.class, status.getId()));
+        entityManager.persist(otherProject);
+        Task hidden = new Task();
+        hidden.setName("Hidden task");
+        hidden.setProject(otherProject);
+        hidden.setStatus(otherProject.getStatus());
+        entityManager.persist(hidden);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TaskRow> rows = taskRepository.findTaskRowsVisibleToUser(member.getId());
+
+        // Then
+        assertEquals(23, rows.size());
+        rows.forEach(row -> {
+            assertEquals("Observer", row.getMyRole());
+            assertEquals(project.getId(), row.getProjectId());
+            assertEquals("Paged project", row.getProjectName());
+            assertEquals("To Do", row.getStatusName());
+            assertEquals("To Do", row.getProjectStatusName());
+        });
+        assertTrue(taskRepository.findTaskRowsVisibleToUser(persistUser("outsider").getId()).isEmpty());
+        assertNull(taskRepository.findTaskRowsByProjectId(otherProject.getId(), member.getId()).get(0).getMyRole());
+    }
+
+    @Test
+    void countTasksByProjectIds_ShouldGroupByStatus_AndCountOverdueOpenTasks() {
+        // Given
+        Status done = new Status();
+        done.setName("Done");
+        entityManager.persist(done);
+        Task finished = new Task();
+        finished.setName("Finished late");
+        finished.setProject(entityManager.find(Project.class, project.getId()));
+        finished.setStatus(done);
+        finished.setDueDate(LocalDate.of(2023, 12, 1));
+        entityManager.persist(finished);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<TaskCountRow> counts = taskRepository.countTasksByProjectIds(List.of(project.getId()), LocalDate.of(2025, 1, 1));
+
+        // Then
+        assertEquals(2, counts.size());
+        TaskCountRow toDo = counts.stream().filter(c -> "To Do".equals(c.getStatusName())).findFirst().orElseThrow();
+        TaskCountRow doneCount = counts.stream().filter(c -> "Done".equals(c.getStatusName())).findFirst().orElseThrow();
+        assertEquals(23L, toDo.getTaskCount());
+        // Les 6 tâches sans échéance ne sont jamais en retard
+        assertEquals(17L, toDo.getOverdueCount());
+        assertEquals(1L, doneCount.getTaskCount());
+        assertEquals(0L, doneCount.getOverdueCount());
+    }
+
+    private User persistUser(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return entityManager.persist(user);
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanagementtool.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "cacheEnabled", true);
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 100L);
+        jwtService.init();
+    }
+
+    @Test
+    void extractAuthenticatedUser_ShouldRestoreIdentityFromClaims() {
+        // Given
+        String token = jwtService.generateToken(new AuthenticatedUser(42L, "alice", "alice@example.com", "hash"));
+
+        // When
+        AuthenticatedUser principal = jwtService.extractAuthenticatedUser(token);
+
+        // Then
+        assertEquals(42L, principal.getId());
+        assertEquals("alice", principal.getUsername());
+        assertEquals("alice@example.com", principal.getEmail());
+        assertNull(principal.getPassword());
+    }
+
+    @Test
+    void extractAuthenticatedUser_ShouldReturnNull_ForTokenWithoutUserIdClaim() {
+        // Given
+        UserDetails legacy = User.withUsername("bob").password("hash").authorities("ROLE_USER").build();
+        String token = jwtService.generateToken(legacy);
+
+        // When & Then
+        assertNull(jwtService.extractAuthenticatedUser(token));
+        assertTrue(jwtService.isTokenValid(token, legacy));
+    }
+
+    @Test
+    void verify_ShouldReuseVerifiedClaims_ForSameToken() {
+        // Given
+        String token = jwtService.generateToken(new AuthenticatedUser(1L, "carol", "carol@example.com", null));
+
+        // When
+        Claims first = jwtService.verify(token);
+        Claims second = jwtService.verify(token);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_ShouldRejectExpiredToken() {
+        // Given
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", -1_000L);
+        String token = jwtService.generateToken(new AuthenticatedUser(1L, "carol", "carol@example.com", null));
+
+        // When & Then
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+
+    @Test
+    void verify_ShouldRejectTamperedToken() {
+        // Given
+        String token = jwtService.generateToken(new AuthenticatedUser(1L, "carol", "carol@example.com", null));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertThrows(SignatureException.class, () -> jwtService.verify(tampered));
+    }
+}
@@ -0,0 +1,57 @@
+package com.projectmanagementtool.backend.security;
+
+import com.projectmanagementtool.backend.exception.AuthenticationOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledPasswordEncoderTest {
+
+    @Test
+    void matches_ShouldRejectImmediately_WhenThreadsAndQueueAreBusy() throws Exception {
+        // Given : un thread occupé et une file d'une place déjà prise
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (PooledPasswordEncoder encoder = new PooledPasswordEncoder(blocking, 1, 1, registry)) {
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+            while (registry.get("security.password.queue.depth").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // When & Then
+            assertThrows(AuthenticationOverloadedException.class, () -> encoder.matches("c", "c"));
+            assertEquals(1.0, registry.get("security.password.rejected").counter().count());
+
+            release.countDown();
+            assertTrue(running.get(5, TimeUnit.SECONDS));
+            assertTrue(queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, registry.get("security.password.queue.wait").timer().count());
+        }
+    }
+}
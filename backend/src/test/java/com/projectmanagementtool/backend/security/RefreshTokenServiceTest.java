@@ -0,0 +1,78 @@
+package com.projectmanagementtool.backend.security;
+
+import com.projectmanagementtool.backend.exception.InvalidRefreshTokenException;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        user = new User();
+        user.setUsername("refresh" + n);
+        user.setEmail("refresh" + n + "@example.com");
+        user.setPassword("hash");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void rotate_ShouldIssueNewTokenForSameUser() {
+        // Given
+        String token = refreshTokenService.issue(user.getId());
+
+        // When
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        // Then
+        assertEquals(user.getId(), rotation.user().getId());
+        assertEquals(user.getEmail(), rotation.user().getEmail());
+        assertNotEquals(token, rotation.refreshToken());
+    }
+
+    @Test
+    void rotate_ShouldRevokeWholeFamily_WhenRotatedTokenIsReused() {
+        // Given
+        String first = refreshTokenService.issue(user.getId());
+        String second = refreshTokenService.rotate(first).refreshToken();
+
+        // When : l'ancien jeton est rejoué
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(first));
+
+        // Then : le jeton légitime le plus récent ne passe plus non plus
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(second));
+    }
+
+    @Test
+    void revoke_ShouldInvalidateTheSession() {
+        // Given
+        String token = refreshTokenService.issue(user.getId());
+
+        // When
+        refreshTokenService.revoke(token);
+
+        // Then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate(token));
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("unknown"));
+    }
+}
@@ -0,0 +1,109 @@
+package com.projectmanagementtool.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectChangeBroadcasterTest {
+
+    private MeterRegistry meterRegistry;
+
+    private ProjectChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+
+        broadcaster = new ProjectChangeBroadcaster(beans.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(broadcaster, "bufferSize", 2);
+        ReflectionTestUtils.setField(broadcaster, "heartbeatSeconds", 60L);
+        ReflectionTestUtils.setField(broadcaster, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(broadcaster, "dispatcherThreads", 1);
+        ReflectionTestUtils.invokeMethod(broadcaster, "start");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(broadcaster, "stop");
+    }
+
+    @Test
+    void publish_ShouldReplaceBacklogWithResync_WhenSubscriberBufferIsFull() throws InterruptedException {
+        // Given : l'unique thread de diffusion est occupé, l'abonné ne peut pas se vider
+        broadcaster.subscribe(1L, 10L, false);
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledExecutorService dispatcher = (ScheduledExecutorService) ReflectionTestUtils.getField(broadcaster, "dispatcher");
+        dispatcher.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        for (long taskId = 1; taskId <= 5; taskId++) {
+            broadcaster.publish(1L, "task.updated", taskId);
+        }
+        broadcaster.publish(2L, "task.updated", 9L);
+        release.countDown();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("projects.stream.resync").counter().count());
+        assertEquals(1, broadcaster.subscriberCount(1L));
+    }
+
+    @Test
+    void publish_ShouldCloseStreams_WhenProjectIsDeleted() throws InterruptedException {
+        // Given
+        broadcaster.subscribe(1L, 10L, false);
+        broadcaster.subscribe(1L, 11L, true);
+        broadcaster.subscribe(2L, 10L, false);
+
+        // When
+        broadcaster.publish(1L, ProjectChangeBroadcaster.PROJECT_DELETED, 1L);
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount(1L) > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, broadcaster.subscriberCount(1L));
+        assertEquals(1, broadcaster.subscriberCount(2L));
+        assertEquals(1.0, meterRegistry.get("projects.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void disconnect_ShouldCloseOnlyRemovedMemberStreamsOnProject() throws InterruptedException {
+        // Given
+        broadcaster.subscribe(1L, 10L, false);
+        broadcaster.subscribe(1L, 10L, false);
+        broadcaster.subscribe(1L, 11L, false);
+        broadcaster.subscribe(2L, 10L, false);
+
+        // When
+        broadcaster.publish(1L, "member.removed", 5L);
+        broadcaster.disconnect(1L, 10L);
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount(1L) > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, broadcaster.subscriberCount(1L));
+        assertEquals(1, broadcaster.subscriberCount(2L));
+        assertEquals(2.0, meterRegistry.get("projects.stream.subscribers").gauge().value());
+    }
+}
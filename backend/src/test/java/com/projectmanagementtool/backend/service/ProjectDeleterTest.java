@@ -0,0 +1,122 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ProjectDeleter.class)
+class ProjectDeleterTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectDeleter projectDeleter;
+
+    private Project doomed;
+    private Project kept;
+
+    @BeforeEach
+    void setUp() {
+        Status status = new Status();
+        status.setName("To Do");
+        entityManager.persist(status);
+        Role admin = new Role();
+        admin.setName("Admin");
+        entityManager.persist(admin);
+        User user = new User();
+        user.setUsername("alice");
+        user.setEmail("alice@example.com");
+        user.setPassword("password");
+        entityManager.persist(user);
+
+        doomed = persistProject("Doomed project", status, user, admin, 5);
+        kept = persistProject("Kept project", status, user, admin, 2);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void delete_ShouldRemoveProjectWithTasksEventsAndMembers() {
+        // When
+        projectDeleter.delete(doomed.getId());
+        entityManager.clear();
+
+        // Then
+        assertRemaining(2L, 6L);
+    }
+
+    @Test
+    void delete_ShouldGiveSameResult_WhenChunked() {
+        // Given
+        ReflectionTestUtils.setField(projectDeleter, "chunkSize", 2);
+
+        // When
+        projectDeleter.delete(doomed.getId());
+        entityManager.clear();
+
+        // Then
+        assertRemaining(2L, 6L);
+    }
+
+    private void assertRemaining(long tasks, long events) {
+        assertNull(entityManager.find(Project.class, doomed.getId()));
+        assertNotNull(entityManager.find(Project.class, kept.getId()));
+        assertEquals(tasks, count("SELECT COUNT(t) FROM Task t"));
+        assertEquals(events, count("SELECT COUNT(e) FROM TaskEvent e"));
+        assertEquals(1L, count("SELECT COUNT(m) FROM ProjectMember m"));
+    }
+
+    private long count(String jpql) {
+        return entityManager.getEntityManager().createQuery(jpql, Long.class).getSingleResult();
+    }
+
+    private Project persistProject(String name, Status status, User user, Role role, int tasks) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(status);
+        entityManager.persist(project);
+
+        ProjectMember member = new ProjectMember();
+        member.setProject(project);
+        member.setUser(user);
+        member.setRole(role);
+        entityManager.persist(member);
+
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setName(name + " task " + i);
+            task.setProject(project);
+            task.setStatus(status);
+            entityManager.persist(task);
+            for (int j = 0; j < 3; j++) {
+                TaskEvent event = new TaskEvent();
+                event.setTask(task);
+                event.setDescription("Event " + j);
+                event.setDate(LocalDateTime.now());
+                entityManager.persist(event);
+            }
+        }
+        return project;
+    }
+}
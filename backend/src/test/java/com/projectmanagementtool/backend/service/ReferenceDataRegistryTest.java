@@ -0,0 +1,55 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReferenceDataRegistry.class)
+class ReferenceDataRegistryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @Test
+    void refresh_ShouldServeLookups_AndChangeEtagOnlyWhenContentChanges() {
+        // Given
+        Status toDo = new Status();
+        toDo.setName("To Do");
+        entityManager.persist(toDo);
+        Role admin = new Role();
+        admin.setName("Admin");
+        entityManager.persist(admin);
+        entityManager.flush();
+
+        // When
+        referenceDataRegistry.refresh();
+        String statusesEtag = referenceDataRegistry.getStatusesEtag();
+
+        // Then
+        assertEquals("To Do", referenceDataRegistry.findStatus(toDo.getId()).orElseThrow().getName());
+        assertEquals(admin.getId(), referenceDataRegistry.findRoleByName("Admin").orElseThrow().getId());
+        assertTrue(referenceDataRegistry.findStatusByName("Unknown").isEmpty());
+        assertTrue(statusesEtag.startsWith("\"") && statusesEtag.endsWith("\""));
+
+        referenceDataRegistry.refresh();
+        assertEquals(statusesEtag, referenceDataRegistry.getStatusesEtag());
+
+        toDo.setName("Backlog");
+        entityManager.flush();
+        referenceDataRegistry.refresh();
+        assertNotEquals(statusesEtag, referenceDataRegistry.getStatusesEtag());
+        assertEquals("Backlog", referenceDataRegistry.getStatuses().get(0).getName());
+    }
+}
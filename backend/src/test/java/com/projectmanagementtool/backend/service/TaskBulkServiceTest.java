@@ -0,0 +1,209 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.dto.BulkItemResultDto;
+import com.projectmanagementtool.backend.dto.BulkTaskMoveDto;
+import com.projectmanagementtool.backend.dto.BulkTaskUpdateDto;
+import com.projectmanagementtool.backend.dto.TaskRequestDto;
+import com.projectmanagementtool.backend.mapper.TaskMapper;
+import com.projectmanagementtool.backend.model.Project;
+import com.projectmanagementtool.backend.model.ProjectMember;
+import com.projectmanagementtool.backend.model.Role;
+import com.projectmanagementtool.backend.model.Status;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.User;
+import com.projectmanagementtool.backend.security.SecurityUtils;
+import com.projectmanagementtool.backend.service.impl.SynchronousTaskEventRecorder;
+import com.projectmanagementtool.backend.service.impl.TaskBulkServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({TaskBulkServiceImpl.class, TaskMapper.class, SynchronousTaskEventRecorder.class, ReferenceDataRegistry.class,
+        ProjectVersionTracker.class, ProjectChangeBroadcaster.class})
+class TaskBulkServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @Autowired
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    @MockBean
+    private SecurityUtils securityUtils;
+
+    private Status toDo;
+    private Status done;
+    private Project adminProject;
+    private Project otherAdminProject;
+    private Project memberProject;
+
+    @BeforeEach
+    void setUp() {
+        toDo = persistStatus("To Do");
+        done = persistStatus("Done");
+        Role admin = persistRole("Admin");
+        Role member = persistRole("Member");
+
+        User alice = new User();
+        alice.setUsername("alice");
+        alice.setEmail("alice@example.com");
+        alice.setPassword("password");
+        entityManager.persist(alice);
+
+        adminProject = persistProject("Admin project", alice, admin);
+        otherAdminProject = persistProject("Other admin project", alice, admin);
+        memberProject = persistProject("Member project", alice, member);
+        entityManager.flush();
+        // La transaction de test n'est jamais validée : on recharge le registre à la main
+        referenceDataRegistry.refresh();
+
+        when(securityUtils.getCurrentUserId()).thenReturn(alice.getId());
+    }
+
+    @Test
+    void createTasks_ShouldCreateAllowedTasks_AndReportEachFailure() {
+        // Given
+        List<TaskRequestDto> requests = List.of(
+                request(adminProject, "First task", toDo),
+                request(memberProject, "Forbidden task", toDo),
+                request(adminProject, "x", toDo),
+                request(adminProject, "Second task", done));
+
+        // When
+        List<BulkItemResultDto> results = taskBulkService.createTasks(requests);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Only admin can create tasks", results.get(1).getError());
+        assertFalse(results.get(2).isSuccess());
+        assertTrue(results.get(3).isSuccess());
+        assertEquals("Second task", entityManager.find(Task.class, results.get(3).getTaskId()).getName());
+        assertEquals(2L, countEvents("Task created"));
+    }
+
+    @Test
+    void updateTasks_ShouldUpdateOnlyTasksOfAdminProjects() {
+        // Given
+        Task allowed = persistTask(adminProject, "Allowed task");
+        Task forbidden = persistTask(memberProject, "Forbidden task");
+        BulkTaskUpdateDto request = new BulkTaskUpdateDto();
+        request.setTaskIds(List.of(allowed.getId(), forbidden.getId(), -1L));
+        request.setStatusId(done.getId());
+        request.setPriority(3);
+
+        // When
+        List<BulkItemResultDto> results = taskBulkService.updateTasks(request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Only admin can update tasks", results.get(1).getError());
+        assertEquals("Task not found with id: -1", results.get(2).getError());
+        Task updated = entityManager.find(Task.class, allowed.getId());
+        assertEquals("Done", updated.getStatus().getName());
+        assertEquals(3, updated.getPriority());
+        assertEquals("To Do", entityManager.find(Task.class, forbidden.getId()).getStatus().getName());
+        assertEquals(1L, countEvents("Task status changed to 'Done'"));
+        assertEquals(1L, countEvents("Task priority changed to 3"));
+    }
+
+    @Test
+    void moveTasks_ShouldRequireAdminOnSourceAndTarget() {
+        // Given
+        Task movable = persistTask(adminProject, "Movable task");
+        BulkTaskMoveDto toAdmin = new BulkTaskMoveDto();
+        toAdmin.setTaskIds(List.of(movable.getId()));
+        toAdmin.setTargetProjectId(otherAdminProject.getId());
+        BulkTaskMoveDto toMember = new BulkTaskMoveDto();
+        toMember.setTaskIds(List.of(movable.getId()));
+        toMember.setTargetProjectId(memberProject.getId());
+
+        // When
+        BulkItemResultDto refused = taskBulkService.moveTasks(toMember).get(0);
+        BulkItemResultDto moved = taskBulkService.moveTasks(toAdmin).get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertFalse(refused.isSuccess());
+        assertTrue(moved.isSuccess());
+        assertEquals(otherAdminProject.getId(), entityManager.find(Task.class, movable.getId()).getProject().getId());
+        assertEquals(1L, countEvents("Task moved to project 'Other admin project'"));
+    }
+
+    private long countEvents(String description) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(e) FROM TaskEvent e WHERE e.description = :description", Long.class)
+                .setParameter("description", description)
+                .getSingleResult();
+    }
+
+    private TaskRequestDto request(Project project, String name, Status status) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setProjectId(project.getId());
+        request.setName(name);
+        request.setStatusId(status.getId());
+        request.setDueDate(LocalDate.of(2024, 6, 1));
+        return request;
+    }
+
+    private Task persistTask(Project project, String name) {
+        Task task = new Task();
+        task.setName(name);
+        task.setProject(project);
+        task.setStatus(toDo);
+        entityManager.persist(task);
+        entityManager.flush();
+        return task;
+    }
+
+    private Status persistStatus(String name) {
+        Status status = new Status();
+        status.setName(name);
+        return entityManager.persist(status);
+    }
+
+    private Role persistRole(String name) {
+        Role role = new Role();
+        role.setName(name);
+        return entityManager.persist(role);
+    }
+
+    private Project persistProject(String name, User user, Role role) {
+        Project project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setStatus(toDo);
+        entityManager.persist(project);
+
+        ProjectMember membership = new ProjectMember();
+        membership.setProject(project);
+        membership.setUser(user);
+        membership.setRole(role);
+        entityManager.persist(membership);
+        return project;
+    }
+}
@@ -0,0 +1,101 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.dto.TaskEventDto;
+import com.projectmanagementtool.backend.mapper.TaskEventMapper;
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.model.TaskEvent;
+import com.projectmanagementtool.backend.repository.TaskEventRepository;
+import com.projectmanagementtool.backend.repository.TaskRepository;
+import com.projectmanagementtool.backend.service.impl.TaskEventServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventServiceTest {
+
+    @Mock
+    private TaskEventRepository taskEventRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskEventMapper taskEventMapper;
+
+    @InjectMocks
+    private TaskEventServiceImpl taskEventService;
+
+    @Test
+    void getTaskEventsByTaskIds_ShouldGroupEventsByTaskId() {
+        // Given
+        TaskEvent first = event(1L, 10L);
+        TaskEvent second = event(2L, 10L);
+        TaskEvent third = event(3L, 20L);
+        when(taskEventRepository.findByTaskIdIn(anyCollection())).thenReturn(List.of(first, second, third));
+        when(taskEventMapper.toDto(any(TaskEvent.class))).thenAnswer(invocation -> {
+            TaskEvent e = invocation.getArgument(0);
+            return TaskEventDto.builder().id(e.getId()).taskId(e.getTask().getId()).build();
+        });
+
+        // When
+        Map<Long, List<TaskEventDto>> result = taskEventService.getTaskEventsByTaskIds(List.of(10L, 20L, 30L));
+
+        // Then
+        assertEquals(2, result.get(10L).size());
+        assertEquals(1, result.get(20L).size());
+        assertTrue(result.get(30L).isEmpty());
+        verify(taskEventRepository, times(1)).findByTaskIdIn(anyCollection());
+    }
+
+    @Test
+    void getTaskEventsByTaskIds_ShouldSplitLargeIdSetsIntoFewQueries() {
+        // Given
+        List<Long> taskIds = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            taskIds.add(id);
+        }
+        when(taskEventRepository.findByTaskIdIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        Map<Long, List<TaskEventDto>> result = taskEventService.getTaskEventsByTaskIds(taskIds);
+
+        // Then
+        assertEquals(2500, result.size());
+        verify(taskEventRepository, times(3)).findByTaskIdIn(anyCollection());
+    }
+
+    @Test
+    void getTaskEventsByTaskIds_ShouldNotQuery_WhenNoTaskIds() {
+        // When
+        Map<Long, List<TaskEventDto>> result = taskEventService.getTaskEventsByTaskIds(List.<Long>of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(taskEventRepository, never()).findByTaskIdIn(any(Collection.class));
+    }
+
+    private TaskEvent event(Long id, Long taskId) {
+        Task task = new Task();
+        task.setId(taskId);
+        TaskEvent event = new TaskEvent();
+        event.setId(id);
+        event.setTask(task);
+        event.setDescription("Event " + id);
+        event.setDate(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,89 @@
+package com.projectmanagementtool.backend.service;
+
+import com.projectmanagementtool.backend.model.Task;
+import com.projectmanagementtool.backend.service.impl.PendingTaskEvent;
+import com.projectmanagementtool.backend.service.impl.TaskEventBatchWriter;
+import com.projectmanagementtool.backend.service.impl.WriteBehindTaskEventRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class WriteBehindTaskEventRecorderTest {
+
+    private TaskEventBatchWriter batchWriter;
+
+    private MeterRegistry meterRegistry;
+
+    private WriteBehindTaskEventRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        batchWriter = mock(TaskEventBatchWriter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", meterRegistry);
+
+        recorder = new WriteBehindTaskEventRecorder(batchWriter, beans.getBeanProvider(MeterRegistry.class));
+        ReflectionTestUtils.setField(recorder, "queueCapacity", 10_000);
+        ReflectionTestUtils.setField(recorder, "batchSize", 500);
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 50L);
+        ReflectionTestUtils.invokeMethod(recorder, "start");
+    }
+
+    @Test
+    void record_ShouldPersistEveryEvent_InMultiRowBatches() {
+        // Given
+        Task task = new Task();
+        task.setId(7L);
+
+        // When
+        for (int i = 0; i < 1200; i++) {
+            recorder.record(task, "Event " + i);
+        }
+        ReflectionTestUtils.invokeMethod(recorder, "stop");
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingTaskEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, atLeast(3)).insertAll(batches.capture());
+        assertEquals(1200, batches.getAllValues().stream().mapToInt(List::size).sum());
+        assertTrue(batches.getAllValues().stream().allMatch(batch -> batch.size() <= 500));
+        assertEquals(0.0, meterRegistry.get("task.events.queue.depth").gauge().value());
+        assertTrue(meterRegistry.get("task.events.flush").timer().count() >= 3);
+    }
+
+    @Test
+    void record_ShouldRetryRowByRow_WhenBatchInsertFails() {
+        // Given
+        Task task = new Task();
+        task.setId(7L);
+        doAnswer(invocation -> {
+            List<PendingTaskEvent> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || "Bad".equals(batch.get(0).description())) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return null;
+        }).when(batchWriter).insertAll(anyList());
+
+        // When
+        recorder.record(task, "Good");
+        recorder.record(task, "Bad");
+        ReflectionTestUtils.invokeMethod(recorder, "stop");
+
+        // Then
+        verify(batchWriter).insertAll(argThat(batch -> batch.size() == 1 && "Good".equals(batch.get(0).description())));
+        assertEquals(1.0, meterRegistry.get("task.events.failed").counter().count());
+    }
+}
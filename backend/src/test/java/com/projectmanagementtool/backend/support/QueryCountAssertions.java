@@ -0,0 +1,41 @@
+package com.projectmanagementtool.backend.support;
+
+import com.projectmanagementtool.backend.monitoring.QueryCounter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Comptage des statements SQL exécutés par le thread du test (MockMvc exécute la requête sur ce thread).
+// Nécessite le contexte Spring complet : c'est QueryCountingDataSource qui alimente le compteur.
+public final class QueryCountAssertions {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Scenario<F> {
+        void run(F fixture) throws Exception;
+    }
+
+    private QueryCountAssertions() {
+    }
+
+    public static long countQueries(Action action) throws Exception {
+        long start = QueryCounter.current();
+        action.run();
+        return QueryCounter.current() - start;
+    }
+
+    // Même scénario sur un petit et un grand jeu de données : un écart signale un N+1
+    public static <F> long assertQueryCountDoesNotScale(String scenario, long budget, F small, F large,
+                                                        Scenario<F> action) throws Exception {
+        long onSmall = countQueries(() -> action.run(small));
+        long onLarge = countQueries(() -> action.run(large));
+        assertEquals(onSmall, onLarge, () -> scenario + " executed " + onSmall + " SQL statements on the small dataset and "
+                + onLarge + " on the large one: the query count grows with the data");
+        assertTrue(onSmall <= budget, () -> scenario + " executed " + onSmall + " SQL statements (budget " + budget + ")");
+        return onSmall;
+    }
+}